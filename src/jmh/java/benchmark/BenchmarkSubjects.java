@@ -0,0 +1,80 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// JMH refuses benchmarks declared in the default package, and classes of a named package
+// cannot import the default package, so the lists under test are created through method handles
+final class BenchmarkSubjects {
+
+    static final String CUSTOM_ARRAY_LIST = "CustomArrayList";
+    static final String ARRAY_LIST = "ArrayList";
+    static final String ARRAY_DEQUE = "ArrayDeque";
+
+    private static final MethodHandle CUSTOM_ARRAY_LIST_CONSTRUCTOR = findConstructor("CustomArrayList");
+
+    private BenchmarkSubjects() {
+    }
+
+    static MethodHandle findConstructor(String className, Class<?>... parameterTypes) {
+        try {
+            final Class<?> type = Class.forName(className);
+            return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to find constructor of '" + className + "'", e);
+        }
+    }
+
+    static MethodHandle findVirtual(String className, String methodName, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            final Class<?> type = Class.forName(className);
+            return MethodHandles.publicLookup().findVirtual(type, methodName, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to find method '" + methodName + "' of '" + className + "'", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Object> newList(String implementation) {
+        switch (implementation) {
+            case CUSTOM_ARRAY_LIST:
+                try {
+                    return (List<Object>) CUSTOM_ARRAY_LIST_CONSTRUCTOR.invoke();
+                } catch (Throwable throwable) {
+                    throw new IllegalStateException(throwable);
+                }
+            case ARRAY_LIST:
+                return new ArrayList<>();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation '" + implementation + "'");
+        }
+    }
+
+    static Collection<Object> newCollection(String implementation) {
+        return ARRAY_DEQUE.equals(implementation) ? new ArrayDeque<>() : newList(implementation);
+    }
+
+    static Object[] generateElements(String elementType, int size) {
+        final Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = generateElement(elementType, i);
+        }
+        return elements;
+    }
+
+    static Object generateElement(String elementType, int seed) {
+        switch (elementType) {
+            case "Integer":
+                return seed;
+            case "String":
+                return "element-" + seed;
+            default:
+                throw new IllegalArgumentException("Unknown element type '" + elementType + "'");
+        }
+    }
+}
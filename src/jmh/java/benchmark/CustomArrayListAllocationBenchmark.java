@@ -0,0 +1,89 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// every benchmark here is expected to allocate nothing per operation,
+// the 'jmhAllocationCheck' task fails the build when gc.alloc.rate.norm says otherwise
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class CustomArrayListAllocationBenchmark {
+
+    @Param({"1024"})
+    int size;
+
+    @Param({"Integer", "String"})
+    String elementType;
+
+    // elements are created upfront, so boxing or string building never shows up in the measurement
+    Object[] elements;
+    List<Object> list;
+    Object middleElement;
+    int position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = BenchmarkSubjects.generateElements(elementType, size);
+        list = BenchmarkSubjects.newList(BenchmarkSubjects.CUSTOM_ARRAY_LIST);
+        list.addAll(Arrays.asList(elements));
+        middleElement = elements[size / 2];
+    }
+
+    private int nextPosition() {
+        position = position + 1 == size ? 0 : position + 1;
+        return position;
+    }
+
+    @Benchmark
+    public Object get() {
+        return list.get(nextPosition());
+    }
+
+    @Benchmark
+    public Object set() {
+        final int index = nextPosition();
+        return list.set(index, elements[index]);
+    }
+
+    @Benchmark
+    public Object addSteadyState() {
+        list.add(middleElement);
+        return list.remove(size);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(middleElement);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(middleElement);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Object element : list) {
+            blackhole.consume(element);
+        }
+    }
+}
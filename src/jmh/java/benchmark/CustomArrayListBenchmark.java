@@ -0,0 +1,166 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomArrayListBenchmark {
+
+    // at most the smallest list size, so removals never run out of elements within a batch
+    static final int MUTATION_BATCH_SIZE = 10;
+
+    @Param({BenchmarkSubjects.CUSTOM_ARRAY_LIST, BenchmarkSubjects.ARRAY_LIST})
+    String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"Integer", "String"})
+    String elementType;
+
+    Object[] elements;
+    List<Object> list;
+    Object middleElement;
+    Object absentElement;
+    Collection<Object> tenthOfElements;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = BenchmarkSubjects.generateElements(elementType, size);
+        list = BenchmarkSubjects.newList(implementation);
+        list.addAll(Arrays.asList(elements));
+        middleElement = elements[size / 2];
+        absentElement = BenchmarkSubjects.generateElement(elementType, -1);
+        tenthOfElements = Arrays.asList(Arrays.copyOf(elements, Math.max(1, size / 10)));
+    }
+
+    // mutating benchmarks run a batch of calls against one fresh copy per iteration: copying a list of millions
+    // of elements before every single call would dominate the measurement, so the score is the time of the whole batch
+    @State(Scope.Thread)
+    public static class MutableCopy {
+
+        List<Object> list;
+        int nextRemovalPosition;
+
+        @Setup(Level.Iteration)
+        public void setUp(CustomArrayListBenchmark benchmark) {
+            list = BenchmarkSubjects.newList(benchmark.implementation);
+            list.addAll(benchmark.list);
+            nextRemovalPosition = benchmark.size / 2;
+        }
+
+        // distinct elements starting at the middle, so every call of a batch removes something
+        Object nextElementToRemove(Object[] elements) {
+            final Object element = elements[nextRemovalPosition];
+            nextRemovalPosition = nextRemovalPosition + 1 == elements.length ? 0 : nextRemovalPosition + 1;
+            return element;
+        }
+    }
+
+    @Benchmark
+    public List<Object> add() {
+        final List<Object> freshList = BenchmarkSubjects.newList(implementation);
+        for (Object element : elements) {
+            freshList.add(element);
+        }
+        return freshList;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = MUTATION_BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = MUTATION_BATCH_SIZE)
+    public List<Object> addAtIndex(MutableCopy copy) {
+        copy.list.add(size / 2, absentElement);
+        return copy.list;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = MUTATION_BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = MUTATION_BATCH_SIZE)
+    public List<Object> addAllAtIndex(MutableCopy copy) {
+        copy.list.addAll(size / 2, tenthOfElements);
+        return copy.list;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = MUTATION_BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = MUTATION_BATCH_SIZE)
+    public Object removeAtIndex(MutableCopy copy) {
+        return copy.list.remove(copy.list.size() / 2);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = MUTATION_BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = MUTATION_BATCH_SIZE)
+    public boolean removeObject(MutableCopy copy) {
+        return copy.list.remove(copy.nextElementToRemove(elements));
+    }
+
+    // a second bulk removal with the same argument finds nothing left to remove, so removeAll and retainAll
+    // run a single call per fresh copy
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = 1)
+    @Measurement(iterations = 20, batchSize = 1)
+    public boolean removeAll(MutableCopy copy) {
+        return copy.list.removeAll(tenthOfElements);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = 1)
+    @Measurement(iterations = 20, batchSize = 1)
+    public boolean retainAll(MutableCopy copy) {
+        return copy.list.retainAll(tenthOfElements);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(absentElement);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(middleElement);
+    }
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+        for (Object element : list) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void subList(Blackhole blackhole) {
+        final int windowSize = Math.max(1, size / 10);
+        for (Object element : list.subList(size / 2 - windowSize / 2, size / 2 + windowSize / 2)) {
+            blackhole.consume(element);
+        }
+    }
+}
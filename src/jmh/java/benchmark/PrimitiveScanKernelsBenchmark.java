@@ -0,0 +1,162 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+// every kernel of IntCustomArrayList is compared with the boxed linear scan of CustomArrayList<Integer>
+// and with a plain scalar loop over the same int[]
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PrimitiveScanKernelsBenchmark {
+
+    private static final String INT_LIST = "IntCustomArrayList";
+    private static final MethodHandle INT_LIST_CONSTRUCTOR = BenchmarkSubjects.findConstructor(INT_LIST, int[].class)
+            .asType(MethodType.methodType(Object.class, int[].class));
+    private static final MethodHandle INDEX_OF = BenchmarkSubjects.findVirtual(INT_LIST, "indexOf", int.class, int.class)
+            .asType(MethodType.methodType(int.class, Object.class, int.class));
+    private static final MethodHandle COUNT = BenchmarkSubjects.findVirtual(INT_LIST, "count", int.class, IntPredicate.class)
+            .asType(MethodType.methodType(int.class, Object.class, IntPredicate.class));
+    private static final MethodHandle SUM = BenchmarkSubjects.findVirtual(INT_LIST, "sum", long.class)
+            .asType(MethodType.methodType(long.class, Object.class));
+    private static final MethodHandle MAX = BenchmarkSubjects.findVirtual(INT_LIST, "max", int.class)
+            .asType(MethodType.methodType(int.class, Object.class));
+    private static final MethodHandle RANGE_EQUALS = BenchmarkSubjects.findVirtual(INT_LIST, "rangeEquals", boolean.class,
+                                                                                   int.class, classOf(INT_LIST), int.class, int.class)
+            .asType(MethodType.methodType(boolean.class, Object.class, int.class, Object.class, int.class, int.class));
+    private static final IntPredicate IS_EVEN = element -> (element & 1) == 0;
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    int[] elements;
+    int[] equalElements;
+    Object intList;
+    Object equalIntList;
+    List<Object> boxedList;
+    int lastElement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        elements = new int[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        equalElements = elements.clone();
+        intList = (Object) INT_LIST_CONSTRUCTOR.invokeExact(elements);
+        equalIntList = (Object) INT_LIST_CONSTRUCTOR.invokeExact(equalElements);
+        boxedList = BenchmarkSubjects.newList(BenchmarkSubjects.CUSTOM_ARRAY_LIST);
+        for (int element : elements) {
+            boxedList.add(element);
+        }
+        lastElement = size - 1;
+    }
+
+    @Benchmark
+    public int indexOfBoxedCustomArrayList() {
+        return boxedList.indexOf(lastElement);
+    }
+
+    @Benchmark
+    public int indexOfScalarLoop() {
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] == lastElement) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int indexOfKernel() throws Throwable {
+        return (int) INDEX_OF.invokeExact(intList, lastElement);
+    }
+
+    @Benchmark
+    public int countBoxedCustomArrayList() {
+        int matches = 0;
+        for (Object element : boxedList) {
+            if (IS_EVEN.test((Integer) element)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int countKernel() throws Throwable {
+        return (int) COUNT.invokeExact(intList, IS_EVEN);
+    }
+
+    @Benchmark
+    public long sumScalarLoop() {
+        long sum = 0;
+        for (int element : elements) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumKernel() throws Throwable {
+        return (long) SUM.invokeExact(intList);
+    }
+
+    @Benchmark
+    public int maxScalarLoop() {
+        int max = Integer.MIN_VALUE;
+        for (int element : elements) {
+            if (element > max) {
+                max = element;
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int maxKernel() throws Throwable {
+        return (int) MAX.invokeExact(intList);
+    }
+
+    @Benchmark
+    public boolean rangeEqualsScalarLoop() {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != equalElements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean rangeEqualsKernel() throws Throwable {
+        return (boolean) RANGE_EQUALS.invokeExact(intList, 0, equalIntList, 0, size);
+    }
+
+    private static Class<?> classOf(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
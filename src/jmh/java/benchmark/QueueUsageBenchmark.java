@@ -0,0 +1,99 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// compares the lists with ArrayDeque for append / drain-from-head workloads, sizes are capped
+// because draining a list from the head is quadratic
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueueUsageBenchmark {
+
+    @Param({BenchmarkSubjects.CUSTOM_ARRAY_LIST, BenchmarkSubjects.ARRAY_LIST, BenchmarkSubjects.ARRAY_DEQUE})
+    String implementation;
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    @Param({"Integer", "String"})
+    String elementType;
+
+    Object[] elements;
+    Collection<Object> collection;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = BenchmarkSubjects.generateElements(elementType, size);
+        collection = BenchmarkSubjects.newCollection(implementation);
+        collection.addAll(Arrays.asList(elements));
+    }
+
+    // a drain empties the copy, so every iteration measures a single drain of a fresh copy made outside the measurement
+    @State(Scope.Thread)
+    public static class MutableCopy {
+
+        Collection<Object> collection;
+
+        @Setup(Level.Iteration)
+        public void setUp(QueueUsageBenchmark benchmark) {
+            collection = BenchmarkSubjects.newCollection(benchmark.implementation);
+            collection.addAll(benchmark.collection);
+        }
+    }
+
+    @Benchmark
+    public Collection<Object> append() {
+        final Collection<Object> freshCollection = BenchmarkSubjects.newCollection(implementation);
+        for (Object element : elements) {
+            freshCollection.add(element);
+        }
+        return freshCollection;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public void drainFromHead(MutableCopy copy, Blackhole blackhole) {
+        final Collection<Object> collection = copy.collection;
+        if (collection instanceof Deque) {
+            final Deque<Object> deque = (Deque<Object>) collection;
+            while (!deque.isEmpty()) {
+                blackhole.consume(deque.pollFirst());
+            }
+        } else {
+            final List<Object> list = (List<Object>) collection;
+            while (!list.isEmpty()) {
+                blackhole.consume(list.remove(0));
+            }
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Object element : collection) {
+            blackhole.consume(element);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+public final class ArrayPoolStats {
+
+    private final long hits;
+    private final long misses;
+    private final long releases;
+    private final long discards;
+
+    ArrayPoolStats(long hits, long misses, long releases, long discards) {
+        this.hits = hits;
+        this.misses = misses;
+        this.releases = releases;
+        this.discards = discards;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    // a miss allocates a new array, including requests above the largest pooled capacity
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getReleases() {
+        return releases;
+    }
+
+    // released arrays which were dropped because of their capacity or a full bucket
+    public long getDiscards() {
+        return discards;
+    }
+
+    public double getHitRate() {
+        final long acquisitions = hits + misses;
+        return acquisitions == 0 ? 0.0 : (double) hits / acquisitions;
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayPoolStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", releases=" + releases +
+                ", discards=" + discards +
+                '}';
+    }
+}
@@ -0,0 +1,27 @@
+final class Capacities {
+
+    static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private Capacities() {
+    }
+
+    static int calculateNewCapacity(GrowthPolicy growthPolicy, int currentCapacity, int minimumCapacity) {
+        if (minimumCapacity < 0 || minimumCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size " + Integer.toUnsignedString(minimumCapacity) + " is too large");
+        }
+        final int newCapacity = growthPolicy.calculateNewCapacity(currentCapacity, minimumCapacity);
+        if (newCapacity < 0 || newCapacity > MAX_ARRAY_SIZE) {
+            return MAX_ARRAY_SIZE;
+        }
+        return Math.max(newCapacity, minimumCapacity);
+    }
+
+    // a result at or above 'currentCapacity' means the backing array is kept
+    static int calculateShrunkCapacity(ShrinkPolicy shrinkPolicy, int currentCapacity, int size) {
+        final int newCapacity = shrinkPolicy.calculateShrunkCapacity(currentCapacity, size);
+        if (newCapacity < 0 || newCapacity >= currentCapacity) {
+            return currentCapacity;
+        }
+        return Math.max(newCapacity, size);
+    }
+}
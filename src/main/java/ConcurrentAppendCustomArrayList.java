@@ -0,0 +1,122 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// producers reserve a slot with a single compare-and-set and never copy already written elements:
+// segment 'k' holds FIRST_SEGMENT_SIZE << k elements, so the storage only grows by appending segments.
+// The published size only covers the contiguous prefix of written slots, which keeps size() and get() consistent;
+// every producer advances it over all written slots it finds, and add returns only once its own slot is published,
+// so an added element is visible to its producer; a producer descheduled between reserving and writing its slot
+// delays the return of later producers, never the readers.
+public class ConcurrentAppendCustomArrayList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int FIRST_SEGMENT_SHIFT = 4;
+    private static final int FIRST_SEGMENT_SIZE = 1 << FIRST_SEGMENT_SHIFT;
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_SIZE;
+    private static final Object NULL_ELEMENT = new Object();
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final AtomicReferenceArray<Object[]> segments = new AtomicReferenceArray<>(Integer.SIZE - FIRST_SEGMENT_SHIFT);
+    private final AtomicInteger reservedSize = new AtomicInteger();
+    private final AtomicInteger publishedSize = new AtomicInteger();
+
+    @Override
+    public int size() {
+        return publishedSize.get();
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndexIsValidElseThrow(index);
+        final int position = index + FIRST_SEGMENT_SIZE;
+        final int highestBit = 31 - Integer.numberOfLeadingZeros(position);
+        return unmaskNull(ELEMENTS.getAcquire(segments.get(highestBit - FIRST_SEGMENT_SHIFT), position ^ (1 << highestBit)));
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkIndexIsValidElseThrow(index);
+        final int position = index + FIRST_SEGMENT_SIZE;
+        final int highestBit = 31 - Integer.numberOfLeadingZeros(position);
+        return unmaskNull(ELEMENTS.getAndSet(segments.get(highestBit - FIRST_SEGMENT_SHIFT), position ^ (1 << highestBit), maskNull(element)));
+    }
+
+    @Override
+    public boolean add(T elementToAdd) {
+        final Object maskedElement = maskNull(elementToAdd);
+        final int index = reserveSlot();
+        final int position = index + FIRST_SEGMENT_SIZE;
+        final int highestBit = 31 - Integer.numberOfLeadingZeros(position);
+        ELEMENTS.setVolatile(segments.get(highestBit - FIRST_SEGMENT_SHIFT), position ^ (1 << highestBit), maskedElement);
+        publishWrittenSlots();
+        while (publishedSize.get() <= index) {
+            Thread.onSpinWait();
+            publishWrittenSlots();
+        }
+        return true;
+    }
+
+    // the segment of a slot is installed before the slot is reserved, so nothing between the reservation and the
+    // write of a slot can fail, a reserved slot is always written and every producer waiting for it gets published
+    private int reserveSlot() {
+        while (true) {
+            final int index = reservedSize.get();
+            if (index >= MAX_SIZE) {
+                throw new IllegalStateException("list can not hold more than " + MAX_SIZE + " elements");
+            }
+            final int position = index + FIRST_SEGMENT_SIZE;
+            installSegment(31 - Integer.numberOfLeadingZeros(position) - FIRST_SEGMENT_SHIFT);
+            if (reservedSize.compareAndSet(index, index + 1)) {
+                return index;
+            }
+        }
+    }
+
+    private void installSegment(int segmentIndex) {
+        if (segments.get(segmentIndex) == null) {
+            segments.compareAndSet(segmentIndex, null, allocateSegment(FIRST_SEGMENT_SIZE << segmentIndex));
+        }
+    }
+
+    // overridden by tests to inject allocation failures
+    Object[] allocateSegment(int segmentSize) {
+        return new Object[segmentSize];
+    }
+
+    // slot writes and reads are volatile: either this producer sees the slot of a slower producer written,
+    // or that producer sees ours once it reaches it, so a written slot is always published eventually
+    private void publishWrittenSlots() {
+        int size = publishedSize.get();
+        while (size < reservedSize.get() && isWritten(size)) {
+            if (publishedSize.compareAndSet(size, size + 1)) {
+                size++;
+            } else {
+                size = publishedSize.get();
+            }
+        }
+    }
+
+    private boolean isWritten(int index) {
+        final int position = index + FIRST_SEGMENT_SIZE;
+        final int highestBit = 31 - Integer.numberOfLeadingZeros(position);
+        final Object[] segment = segments.get(highestBit - FIRST_SEGMENT_SHIFT);
+        return segment != null && ELEMENTS.getVolatile(segment, position ^ (1 << highestBit)) != null;
+    }
+
+    private static Object maskNull(Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    private static <T> T unmaskNull(Object element) {
+        return element == NULL_ELEMENT ? null : (T) element;
+    }
+
+    private void checkIndexIsValidElseThrow(int index) {
+        final int size = publishedSize.get();
+        if (index < 0 || size <= index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
+    }
+}
@@ -0,0 +1,410 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// writers copy the array under a lock and publish it through a volatile write, readers never lock
+// and every iterator works on the array which was published when it was created
+public class CopyOnWriteCustomArrayList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Object[] sourceArray;
+
+    public CopyOnWriteCustomArrayList() {
+        this.sourceArray = EMPTY_ARRAY;
+    }
+
+    public CopyOnWriteCustomArrayList(Collection<? extends T> collection) {
+        final Object[] elements = collection.toArray();
+        this.sourceArray = Arrays.copyOf(elements, elements.length, Object[].class);
+    }
+
+    @Override
+    public int size() {
+        return sourceArray.length;
+    }
+
+    @Override
+    public T get(int index) {
+        final Object[] elements = sourceArray;
+        checkIndexIsValidElseThrow(index, elements.length);
+        return (T) elements[index];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            checkIndexIsValidElseThrow(index, elements.length);
+            final Object previousElement = elements[index];
+            if (previousElement != element) {
+                final Object[] newElements = elements.clone();
+                newElements[index] = element;
+                sourceArray = newElements;
+            }
+            return (T) previousElement;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean add(T elementToAdd) {
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            final Object[] newElements = Arrays.copyOf(elements, elements.length + 1);
+            newElements[elements.length] = elementToAdd;
+            sourceArray = newElements;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void add(int indexOfInsertion, T element) {
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            if (indexOfInsertion < 0 || elements.length < indexOfInsertion)
+                throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + elements.length + "]");
+            final Object[] newElements = new Object[elements.length + 1];
+            System.arraycopy(elements, 0, newElements, 0, indexOfInsertion);
+            System.arraycopy(elements, indexOfInsertion, newElements, indexOfInsertion + 1, elements.length - indexOfInsertion);
+            newElements[indexOfInsertion] = element;
+            sourceArray = newElements;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        final Object[] elementsToAdd = collection.toArray();
+        if (elementsToAdd.length == 0) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            final Object[] newElements = Arrays.copyOf(elements, elements.length + elementsToAdd.length);
+            System.arraycopy(elementsToAdd, 0, newElements, elements.length, elementsToAdd.length);
+            sourceArray = newElements;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean addAll(int indexOfInsertion, Collection<? extends T> collection) {
+        final Object[] elementsToAdd = collection.toArray();
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            if (indexOfInsertion < 0 || elements.length < indexOfInsertion)
+                throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + elements.length + "]");
+            if (elementsToAdd.length == 0) {
+                return false;
+            }
+            final Object[] newElements = new Object[elements.length + elementsToAdd.length];
+            System.arraycopy(elements, 0, newElements, 0, indexOfInsertion);
+            System.arraycopy(elementsToAdd, 0, newElements, indexOfInsertion, elementsToAdd.length);
+            System.arraycopy(elements, indexOfInsertion, newElements, indexOfInsertion + elementsToAdd.length,
+                             elements.length - indexOfInsertion);
+            sourceArray = newElements;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public T remove(int index) {
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            checkIndexIsValidElseThrow(index, elements.length);
+            final Object removedElement = elements[index];
+            final Object[] newElements = new Object[elements.length - 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+            sourceArray = newElements;
+            return (T) removedElement;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        writeLock.lock();
+        try {
+            final int index = indexOf(object);
+            if (index < 0) {
+                return false;
+            }
+            remove(index);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            sourceArray = EMPTY_ARRAY;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // snapshot iterators can not remove, so every bulk operation is a single copy and swap under the lock
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            final Object[] retainedElements = new Object[elements.length];
+            int retainedCount = 0;
+            for (Object element : elements) {
+                if (!filter.test((T) element)) {
+                    retainedElements[retainedCount++] = element;
+                }
+            }
+            if (retainedCount == elements.length) {
+                return false;
+            }
+            sourceArray = Arrays.copyOf(retainedElements, retainedCount);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(collection::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        writeLock.lock();
+        try {
+            final Object[] newElements = sourceArray.clone();
+            for (int i = 0; i < newElements.length; i++) {
+                newElements[i] = operator.apply((T) newElements[i]);
+            }
+            sourceArray = newElements;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        writeLock.lock();
+        try {
+            final Object[] newElements = sourceArray.clone();
+            Arrays.sort(newElements, (Comparator<Object>) comparator);
+            sourceArray = newElements;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // backs subList(..).clear()
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex)
+                throw new IndexOutOfBoundsException("passed range [" + fromIndex + ".." + toIndex + ") is out of range [0.." + elements.length + "]");
+            if (fromIndex == toIndex) {
+                return;
+            }
+            final Object[] newElements = new Object[elements.length - (toIndex - fromIndex)];
+            System.arraycopy(elements, 0, newElements, 0, fromIndex);
+            System.arraycopy(elements, toIndex, newElements, fromIndex, elements.length - toIndex);
+            sourceArray = newElements;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        final Object[] elements = sourceArray;
+        for (int i = 0; i < elements.length; i++) {
+            if (Objects.equals(elements[i], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return sourceArray.clone();
+    }
+
+    public List<T> snapshot() {
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(sourceArray));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return snapshot().iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return snapshot().listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return snapshot().listIterator(index);
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        writeLock.lock();
+        try {
+            final Object[] elements = sourceArray;
+            if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex)
+                throw new IndexOutOfBoundsException("passed range [" + fromIndex + ".." + toIndex + ") is out of range [0.." + elements.length + "]");
+            return new SubListView(elements, fromIndex, toIndex - fromIndex);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(sourceArray, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    private static void checkIndexIsValidElseThrow(int index, int size) {
+        if (index < 0 || size <= index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
+    }
+
+    // bound to the array published when it was created or last written through it, any swap made elsewhere
+    // makes every further access fail with ConcurrentModificationException
+    private final class SubListView extends AbstractList<T> implements RandomAccess {
+
+        private final int offset;
+        private int size;
+        private Object[] expectedArray;
+
+        SubListView(Object[] expectedArray, int offset, int size) {
+            this.expectedArray = expectedArray;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            final Object[] elements = checkForComodification();
+            checkIndexIsValidElseThrow(index, size);
+            return (T) elements[offset + index];
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public T set(int index, T element) {
+            writeLock.lock();
+            try {
+                checkForComodification();
+                checkIndexIsValidElseThrow(index, size);
+                final T previousElement = CopyOnWriteCustomArrayList.this.set(offset + index, element);
+                expectedArray = sourceArray;
+                return previousElement;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public void add(int indexOfInsertion, T element) {
+            writeLock.lock();
+            try {
+                checkForComodification();
+                if (indexOfInsertion < 0 || size < indexOfInsertion)
+                    throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + size + "]");
+                CopyOnWriteCustomArrayList.this.add(offset + indexOfInsertion, element);
+                expectedArray = sourceArray;
+                size++;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public T remove(int index) {
+            writeLock.lock();
+            try {
+                checkForComodification();
+                checkIndexIsValidElseThrow(index, size);
+                final T removedElement = CopyOnWriteCustomArrayList.this.remove(offset + index);
+                expectedArray = sourceArray;
+                size--;
+                return removedElement;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            writeLock.lock();
+            try {
+                checkForComodification();
+                CopyOnWriteCustomArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+                expectedArray = sourceArray;
+                size -= toIndex - fromIndex;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private Object[] checkForComodification() {
+            final Object[] elements = sourceArray;
+            if (elements != expectedArray) throw new ConcurrentModificationException();
+            return elements;
+        }
+    }
+}
@@ -1,30 +1,78 @@
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 public class CustomArrayList<T> implements List<T> {
 
     private static final int DEFAULT_ALLOCATION_SIZE = 16;
+    private static final int HASH_LOOKUP_THRESHOLD = 16;
+    // positional writes patch the element index only when at most this many elements shift, beyond it the index goes stale
+    private static final int ELEMENT_INDEX_PATCH_THRESHOLD = 16;
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.oneAndHalf();
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    // the JDK singleton, so a later sort(Comparator.naturalOrder()) is recognised as the sorted mode order
+    private static final Comparator<Object> NATURAL_ORDER = (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder();
     private Object[] sourceArray;
     private int size;
+    private int modCount;
+    private final GrowthPolicy growthPolicy;
+    private ElementPositionIndex elementIndex;
+    private int elementIndexModCount;
+    private boolean hashCodeCaching;
+    private int cachedHashCode;
+    private int cachedHashCodeModCount;
+    private CustomArrayListMetrics metrics;
+    private ObjectArrayPool arrayPool;
+    private Comparator<? super T> sortedModeComparator;
+    private boolean elementsSorted;
+    private ShrinkPolicy shrinkPolicy;
 
     public CustomArrayList(Object[] sourceArray) {
         this.sourceArray = sourceArray;
         this.size = sourceArray.length;
+        this.growthPolicy = DEFAULT_GROWTH_POLICY;
     }
 
     public CustomArrayList() {
-        this.size = 0;
+        this(DEFAULT_GROWTH_POLICY);
     }
 
     public CustomArrayList(int size) {
+        this(size, DEFAULT_GROWTH_POLICY);
+    }
+
+    public CustomArrayList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_ALLOCATION_SIZE, growthPolicy);
+    }
+
+    public CustomArrayList(int size, GrowthPolicy growthPolicy) {
         if (size < 0) throw new IllegalArgumentException("Size to bee expected as positive integer, but was " + size);
-        sourceArray = new Object[size];
+        this.sourceArray = new Object[size];
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "'growthPolicy' should not be null");
+    }
+
+    // backing arrays are drawn from 'arrayPool', and arrays replaced by growth, trimToSize or clear are returned to it
+    public CustomArrayList(int size, ObjectArrayPool arrayPool) {
+        this.arrayPool = Objects.requireNonNull(arrayPool, "'arrayPool' should not be null");
+        this.sourceArray = arrayPool.acquire(size);
+        this.growthPolicy = DEFAULT_GROWTH_POLICY;
     }
 
     @Override
@@ -35,13 +83,16 @@ public class CustomArrayList<T> implements List<T> {
     private class CustomIterator implements Iterator<T> {
 
         int currentPosition;
+        int expectedModCount;
+        boolean canRemove;
 
         public CustomIterator() {
-            this(0);
+            this(-1);
         }
 
         public CustomIterator(int currentPosition) {
             this.currentPosition = currentPosition;
+            this.expectedModCount = modCount;
         }
 
         @Override
@@ -51,11 +102,40 @@ public class CustomArrayList<T> implements List<T> {
 
         @Override
         public T next() {
+            checkForComodification(expectedModCount);
             if (!hasNext()) {
                 throw new NoSuchElementException("next element is absent");
             }
+            canRemove = true;
             return (T) sourceArray[++currentPosition];
         }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException("'next' method has not been called yet");
+            checkForComodification(expectedModCount);
+            CustomArrayList.this.remove(currentPosition--);
+            expectedModCount = modCount;
+            canRemove = false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            final Object[] elements = sourceArray;
+            final int firstPosition = currentPosition + 1;
+            int position = firstPosition;
+            for (; position < size && expectedModCount == modCount; position++) {
+                action.accept((T) elements[position]);
+            }
+            currentPosition = position - 1;
+            canRemove = canRemove || position > firstPosition;
+            checkForComodification(expectedModCount);
+        }
+    }
+
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
     }
 
     @Override
@@ -65,7 +145,7 @@ public class CustomArrayList<T> implements List<T> {
 
     @Override
     public boolean contains(Object object) {
-        return Objects.nonNull(sourceArray) && Arrays.stream(sourceArray).anyMatch(object::equals);
+        return indexOf(object) >= 0;
     }
 
     @Override
@@ -85,153 +165,466 @@ public class CustomArrayList<T> implements List<T> {
 
     @Override
     public boolean add(T elementToAdd) {
-        if (Objects.nonNull(sourceArray[size - 1])) {
-            increaseArraySize(1);
+        if (isSorted()) {
+            insertAt(findSortedInsertionPosition(elementToAdd), elementToAdd);
+            return true;
+        }
+        if (size == sourceArray.length) {
+            increaseArraySize(size + 1);
+        }
+        if (isElementIndexUpToDate()) {
+            elementIndex.onAppend(elementToAdd, size);
+            elementIndexModCount++;
+        }
+        if (isCachedHashCodeUpToDate()) {
+            cachedHashCode = 31 * cachedHashCode + Objects.hashCode(elementToAdd);
+            cachedHashCodeModCount++;
+        }
+        sourceArray[size++] = elementToAdd;
+        modCount++;
+        return true;
+    }
+
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > sourceArray.length) {
+            increaseArraySize(minimumCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < sourceArray.length) {
+            if (metrics != null) {
+                metrics.onReallocation(size, size);
+            }
+            final Object[] previousArray = sourceArray;
+            sourceArray = Arrays.copyOf(sourceArray, size);
+            releaseToPool(previousArray, size);
         }
-        return add(elementToAdd, sourceArray);
     }
 
-    private void increaseArraySize(Integer amountOfNewCells) {
-        sourceArray = allocateNewArrayWithSize(calculateNewSize(amountOfNewCells));
+    // the array is checked right away and after every removal, clear() then falls back to the policy's minimum capacity
+    public void enableAutoShrink(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = Objects.requireNonNull(shrinkPolicy, "'shrinkPolicy' should not be null");
+        shrinkIfUnderutilized();
+    }
+
+    public void disableAutoShrink() {
+        shrinkPolicy = null;
+    }
+
+    public boolean isAutoShrinkEnabled() {
+        return shrinkPolicy != null;
+    }
+
+    public CustomArrayListFootprint footprint() {
+        return new CustomArrayListFootprint(size, sourceArray.length);
+    }
+
+    private void shrinkIfUnderutilized() {
+        if (shrinkPolicy == null) {
+            return;
+        }
+        final int newCapacity = shrunkCapacity(size);
+        if (newCapacity < sourceArray.length) {
+            allocateNewArrayWithSize(newCapacity);
+        }
+    }
+
+    // a pool rounds the capacity up to its bucket, which may be no smaller than the current array
+    private int shrunkCapacity(int newSize) {
+        final int newCapacity = Capacities.calculateShrunkCapacity(shrinkPolicy, sourceArray.length, newSize);
+        return arrayPool != null ? arrayPool.acquiredCapacityOf(newCapacity) : newCapacity;
+    }
+
+    // the frozen copy is trimmed to the exact size and does not change when this list does
+    public FrozenCustomArrayList<T> freeze() {
+        return FrozenCustomArrayList.copyOf(sourceArray, size);
+    }
+
+    int capacity() {
+        return sourceArray.length;
+    }
+
+    private void increaseArraySize(int minimumCapacity) {
+        sourceArray = allocateNewArrayWithSize(calculateNewSize(minimumCapacity));
     }
 
     private Object[] allocateNewArrayWithSize(int newSize) {
-        final Object[] newArrayOfElement = new Object[newSize];
-        for (int i = 0; i < size; i++) {
-            newArrayOfElement[i] = sourceArray[i];
+        final Object[] newArrayOfElement = newBackingArray(newSize);
+        if (metrics != null) {
+            metrics.onReallocation(newArrayOfElement.length, size);
         }
+        System.arraycopy(sourceArray, 0, newArrayOfElement, 0, size);
+        releaseToPool(sourceArray, size);
         sourceArray = newArrayOfElement;
         return sourceArray;
     }
 
-    private int calculateNewSize(Integer amountOfNewCellsToAdd) {
-        return amountOfNewCellsToAdd == null
-                ? (int) (size * 1.25) //default increase is 25 %
-                : size + amountOfNewCellsToAdd;
+    private Object[] newBackingArray(int capacity) {
+        return arrayPool != null ? arrayPool.acquire(capacity) : new Object[capacity];
     }
 
-    private boolean add(T element, Object[] arrayInWhichToAdd) {
-        for (int i = 0; i < arrayInWhichToAdd.length; i++) {
-            if (Objects.isNull(arrayInWhichToAdd[i])) {
-                arrayInWhichToAdd[i] = element;
-                size++;
-                return true;
-            }
+    private void releaseToPool(Object[] array, int usedLength) {
+        if (arrayPool != null) {
+            Arrays.fill(array, 0, usedLength, null);
+            arrayPool.release(array);
         }
-        return false;
+    }
+
+    // hands the backing array back to the pool, the list stays usable as an empty list without a pool
+    void releaseBackingArray() {
+        releaseToPool(sourceArray, size);
+        arrayPool = null;
+        sourceArray = new Object[0];
+        size = 0;
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex.clear();
+            elementIndexModCount = modCount;
+        }
+    }
+
+    private int calculateNewSize(int minimumCapacity) {
+        return Capacities.calculateNewCapacity(growthPolicy, sourceArray.length, minimumCapacity);
     }
 
     @Override
     public boolean remove(Object object) {
-        for (int i = 0; i < size; i++) {
-            if (sourceArray[i].equals(object)) {
-                this.remove(i);
-                return true;
-            }
+        final int index = indexOf(object);
+        if (index < 0) {
+            return false;
         }
-        return false;
+        this.remove(index);
+        return true;
     }
 
     @Override
     public boolean containsAll(Collection<?> collection) {
-        return collection.stream().allMatch(this::contains);
+        for (Object element : collection) {
+            if (indexOf(element) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public boolean addAll(Collection<? extends T> collection) {
-        boolean hasListBeenChanged = false;
-        for (T element : collection) {
-            final boolean hasCurrentElementBeenAppend = this.add(element);
-            if (!hasListBeenChanged && hasCurrentElementBeenAppend) {
-                hasListBeenChanged = true;
-            }
+        if (collection instanceof CustomArrayList) {
+            final CustomArrayList<?> other = (CustomArrayList<?>) collection;
+            final int elementsToAppend = other.size;
+            ensureCapacityForAppend(elementsToAppend);
+            // 'other' may be this list, its array is read only after the growth above
+            return appendElements(other.sourceArray, 0, elementsToAppend);
         }
-        return hasListBeenChanged;
+        final Object[] elementsToAdd = collection.toArray();
+        ensureCapacityForAppend(elementsToAdd.length);
+        return appendElements(elementsToAdd, 0, elementsToAdd.length);
     }
 
-    @Override
-    public boolean addAll(int startIndex, Collection<? extends T> collection) {
-        checkIndexIsValidElseThrow(startIndex);
+    public boolean addAll(Object[] elements, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, elements.length);
+        ensureCapacityForAppend(length);
+        return appendElements(elements, offset, length);
+    }
 
-        final Object[] elementsToAdd = collection.toArray();
-        final int newArrayLength = this.size + elementsToAdd.length;
+    public boolean addAll(Iterator<? extends T> iterator) {
+        Objects.requireNonNull(iterator);
+        if (isSorted()) {
+            final CustomArrayList<T> batch = new CustomArrayList<>();
+            batch.addAll(iterator);
+            return addAll(batch);
+        }
+        final int previousSize = size;
+        while (iterator.hasNext()) {
+            add(iterator.next());
+        }
+        return size != previousSize;
+    }
 
-        if (newArrayLength >= sourceArray.length) {
-            increaseArraySize(newArrayLength - sourceArray.length);
+    // the exact size, or else the estimate of the spliterator is allocated upfront,
+    // so that the array grows at most once for a well behaved source
+    public boolean addAll(Spliterator<? extends T> spliterator) {
+        Objects.requireNonNull(spliterator);
+        if (isSorted()) {
+            final CustomArrayList<T> batch = new CustomArrayList<>();
+            batch.addAll(spliterator);
+            return addAll(batch);
+        }
+        final long exactSize = spliterator.getExactSizeIfKnown();
+        final long sizeHint = exactSize >= 0 ? exactSize : spliterator.estimateSize();
+        if (sizeHint != Long.MAX_VALUE) {
+            ensureCapacityForAppend((int) Math.min(sizeHint, Capacities.MAX_ARRAY_SIZE - size));
         }
+        final int previousSize = size;
+        spliterator.forEachRemaining(this::add);
+        return size != previousSize;
+    }
+
+    public boolean addAll(Stream<? extends T> stream) {
+        return addAll(stream.spliterator());
+    }
+
+    // each thread of a parallel stream fills its own list, the partial lists are merged with a single copy each
+    public static <T> Collector<T, ?, CustomArrayList<T>> toCustomArrayList() {
+        return Collector.of(
+                CustomArrayList::new,
+                CustomArrayList::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
 
-        final Object[] lastElements = Arrays.copyOfRange(sourceArray, startIndex, size);
+    private void ensureCapacityForAppend(int elementsToAppend) {
+        if (elementsToAppend > sourceArray.length - size) {
+            increaseArraySize(size + elementsToAppend);
+        }
+    }
 
-        size = sourceArray.length;
-        int indexOfElementsToBeAppend = 0;
-        for (int i = startIndex; i < startIndex + elementsToAdd.length; i++) {
-            sourceArray[i] = elementsToAdd[indexOfElementsToBeAppend++];
+    private boolean appendElements(Object[] elements, int offset, int length) {
+        if (isSorted()) {
+            return mergeSortedElements(elements, offset, length);
         }
-        int indexOfLastElement = 0;
-        for (int i = startIndex + elementsToAdd.length; i < size; i++) {
-            sourceArray[i] = lastElements[indexOfLastElement++];
+        System.arraycopy(elements, offset, sourceArray, size, length);
+        size += length;
+        modCount++;
+        return length != 0;
+    }
+
+    @Override
+    public boolean addAll(int startIndex, Collection<? extends T> collection) {
+        checkPositionIsValidElseThrow(startIndex);
+
+        final Object[] elementsToAdd = collection.toArray();
+        ensureCapacityForAppend(elementsToAdd.length);
+
+        if (metrics != null) {
+            metrics.onShift(size - startIndex);
         }
-        return !collection.isEmpty();
+        System.arraycopy(sourceArray, startIndex, sourceArray, startIndex + elementsToAdd.length, size - startIndex);
+        System.arraycopy(elementsToAdd, 0, sourceArray, startIndex, elementsToAdd.length);
+        size += elementsToAdd.length;
+        modCount++;
+        elementsSorted = elementsSorted && elementsToAdd.length == 0;
+        return elementsToAdd.length != 0;
     }
 
     @Override
     public boolean removeAll(Collection<?> collection) {
-        AtomicBoolean hasListBeenChanged = new AtomicBoolean(false);
-        collection.forEach(element -> {
-            if (this.contains(element)) {
-                hasListBeenChanged.set(true);
-                this.remove(element);
-            }
-        });
-        return hasListBeenChanged.get();
+        return removeElementsMatching(null, prepareForMembershipChecks(collection), false);
     }
 
     @Override
     public boolean retainAll(Collection<?> collection) {
-        int[] indexesOfElementsToRetain = new int[collection.size()];
-        int indexOfIndexesArray = 0;
-        for (Object element : collection) {
-            final Integer indexOfCurrentElementInSourceArray = this.getFirstIndexOf(element);
-            if (indexOfCurrentElementInSourceArray != null) {
-                indexesOfElementsToRetain[indexOfIndexesArray++] = indexOfCurrentElementInSourceArray;
-            }
-        }
-        return retainElementsOnlyWithIndexesAsPassed(indexesOfElementsToRetain);
+        return removeElementsMatching(null, prepareForMembershipChecks(collection), true);
     }
 
-    private boolean retainElementsOnlyWithIndexesAsPassed(int[] indexesOfElementsToRetain) {
-        final int previousArrayLength = size;
-        sourceArray = new Object[indexesOfElementsToRetain.length];
-        for (int indexOfElementToRetain : indexesOfElementsToRetain) {
-            this.add(this.get(indexOfElementToRetain));
+    // every element of the list is looked up once, so a large non-Set argument is copied into a HashSet
+    // to turn O(n*m) 'contains' calls into O(n+m)
+    private Collection<?> prepareForMembershipChecks(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        if (collection instanceof Set || collection.size() <= HASH_LOOKUP_THRESHOLD || size <= HASH_LOOKUP_THRESHOLD) {
+            return collection;
         }
-        size = indexesOfElementsToRetain.length;
-        return indexesOfElementsToRetain.length != previousArrayLength;
+        return new HashSet<>(collection);
     }
 
-    private Integer getFirstIndexOf(Object element) {
+    private int getFirstIndexOf(Object element) {
         return getIndexOfDependOnOrder(element, Order.FIRST);
     }
 
-    private Integer getLastIndexOf(Object element) {
+    private int getLastIndexOf(Object element) {
         return getIndexOfDependOnOrder(element, Order.LAST);
     }
 
-    private Integer getIndexOfDependOnOrder(Object element, Order order) {
-        if (order.equals(Order.LAST)) {
+    private int getIndexOfDependOnOrder(Object element, Order order) {
+        if (elementIndex != null) {
+            return getIndexOfFromElementIndex(element, order);
+        }
+        if (element != null && isSorted()) {
+            return getIndexOfByBinarySearch(element, order);
+        }
+        int index = -1;
+        if (order == Order.LAST) {
             for (int i = size - 1; i >= 0; i--) {
-                if (sourceArray[i].equals(element)) {
-                    return i;
+                if (Objects.equals(sourceArray[i], element)) {
+                    index = i;
+                    break;
                 }
             }
         } else {
             for (int i = 0; i < size; i++) {
-                if (sourceArray[i].equals(element)) {
+                if (Objects.equals(sourceArray[i], element)) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        if (metrics != null) {
+            metrics.onScan(index < 0 ? size : order == Order.LAST ? size - index : index + 1);
+        }
+        return index;
+    }
+
+    // elements comparing equal to 'element' form one run, the run is scanned for an element which is also 'equals'
+    private int getIndexOfByBinarySearch(Object element, Order order) {
+        final Comparator<Object> comparator = (Comparator<Object>) sortedModeComparator;
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (comparator.compare(sourceArray[middle], element) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int runEnd = low;
+        while (runEnd < size && comparator.compare(sourceArray[runEnd], element) == 0) {
+            runEnd++;
+        }
+        if (order == Order.LAST) {
+            for (int i = runEnd - 1; i >= low; i--) {
+                if (element.equals(sourceArray[i])) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = low; i < runEnd; i++) {
+                if (element.equals(sourceArray[i])) {
                     return i;
                 }
             }
         }
-        return null;
+        return -1;
+    }
+
+    // upper bound, so an element is inserted after the elements it compares equal to
+    private int findSortedInsertionPosition(T element) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sortedModeComparator.compare((T) sourceArray[middle], element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // the batch is sorted on its own and merged from the back, so every element of this list moves at most once
+    private boolean mergeSortedElements(Object[] elements, int offset, int length) {
+        final T[] batch = (T[]) Arrays.copyOfRange(elements, offset, offset + length);
+        Arrays.sort(batch, sortedModeComparator);
+        ensureCapacityForAppend(length);
+        int readPosition = size - 1;
+        int batchPosition = length - 1;
+        int writePosition = size + length - 1;
+        while (batchPosition >= 0) {
+            if (readPosition >= 0 && sortedModeComparator.compare((T) sourceArray[readPosition], batch[batchPosition]) > 0) {
+                sourceArray[writePosition--] = sourceArray[readPosition--];
+            } else {
+                sourceArray[writePosition--] = batch[batchPosition--];
+            }
+        }
+        if (metrics != null) {
+            metrics.onShift(size - readPosition - 1);
+        }
+        size += length;
+        modCount++;
+        return length != 0;
+    }
+
+    // sorts the list once, afterwards add and addAll keep it sorted while indexOf and contains use binary search;
+    // positional writes which break the order switch lookups back to linear scans until the next sort with this order
+    public void enableSortedMode(Comparator<? super T> comparator) {
+        final Comparator<? super T> sortOrder = comparator != null ? comparator : NATURAL_ORDER;
+        sortedModeComparator = sortOrder;
+        sort(sortOrder);
+    }
+
+    public void disableSortedMode() {
+        sortedModeComparator = null;
+        elementsSorted = false;
+    }
+
+    public boolean isSortedModeEnabled() {
+        return sortedModeComparator != null;
+    }
+
+    public boolean isSorted() {
+        return sortedModeComparator != null && elementsSorted;
+    }
+
+    private boolean fitsSortedOrderAt(int index, T element, int nextIndex) {
+        return (index == 0 || sortedModeComparator.compare((T) sourceArray[index - 1], element) <= 0)
+                && (nextIndex >= size || sortedModeComparator.compare(element, (T) sourceArray[nextIndex]) <= 0);
+    }
+
+    private int getIndexOfFromElementIndex(Object element, Order order) {
+        if (!isElementIndexUpToDate()) {
+            elementIndex.rebuild(sourceArray, size);
+            elementIndexModCount = modCount;
+        }
+        return order == Order.LAST ? elementIndex.lastPositionOf(element) : elementIndex.firstPositionOf(element);
+    }
+
+    // the index follows appends, 'set' and removals of the last element incrementally,
+    // any other structural modification leaves it stale until the next lookup rebuilds it
+    public void enableElementIndex() {
+        if (elementIndex == null) {
+            elementIndex = new ElementPositionIndex();
+            elementIndexModCount = modCount - 1;
+        }
+    }
+
+    public void disableElementIndex() {
+        elementIndex = null;
+    }
+
+    public ElementIndexStats elementIndexStats() {
+        if (elementIndex == null) throw new IllegalStateException("element index is not enabled");
+        return elementIndex.stats(isElementIndexUpToDate());
+    }
+
+    // disabled metrics are a null field, the instrumented paths pay for a single null check
+    public void enableMetrics() {
+        if (metrics == null) {
+            metrics = new CustomArrayListMetrics(sourceArray.length);
+        }
+    }
+
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metrics != null;
+    }
+
+    public CustomArrayListStats metricsStats() {
+        final CustomArrayListMetrics currentMetrics = metrics;
+        if (currentMetrics == null) throw new IllegalStateException("metrics are not enabled");
+        return currentMetrics.stats(size, sourceArray.length);
+    }
+
+    // reads the metrics field once, so disabling them from another thread yields zeroed counters instead of an exception
+    CustomArrayListStats metricsStatsOrZeroes() {
+        final CustomArrayListMetrics currentMetrics = metrics;
+        final int capacity = sourceArray.length;
+        if (currentMetrics == null) {
+            return new CustomArrayListStats(size, capacity, capacity, 0, 0, 0, 0, 0, 0);
+        }
+        return currentMetrics.stats(size, capacity);
+    }
+
+    private boolean isElementIndexUpToDate() {
+        return elementIndex != null && elementIndexModCount == modCount;
     }
 
     private enum Order {
@@ -240,8 +633,24 @@ public class CustomArrayList<T> implements List<T> {
 
     @Override
     public void clear() {
-        sourceArray = new Object[DEFAULT_ALLOCATION_SIZE];
+        clear(false);
+    }
+
+    // retaining the capacity only nulls [0, size), otherwise the backing array is replaced by a default sized one
+    public void clear(boolean retainCapacity) {
+        final int newCapacity = shrinkPolicy != null ? shrunkCapacity(0) : DEFAULT_ALLOCATION_SIZE;
+        if (retainCapacity || (shrinkPolicy != null && newCapacity >= sourceArray.length)) {
+            Arrays.fill(sourceArray, 0, size, null);
+        } else {
+            releaseToPool(sourceArray, size);
+            sourceArray = newBackingArray(newCapacity);
+        }
         size = 0;
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex.clear();
+            elementIndexModCount = modCount;
+        }
     }
 
     @Override
@@ -254,58 +663,89 @@ public class CustomArrayList<T> implements List<T> {
     public T set(int index, T element) {
         checkIndexIsValidElseThrow(index);
         Object previousElement = sourceArray[index];
+        if (isSorted()) {
+            elementsSorted = fitsSortedOrderAt(index, element, index + 1);
+        }
         sourceArray[index] = element;
+        if (isElementIndexUpToDate()) {
+            elementIndex.onReplace(index, previousElement, element);
+        }
+        if (isCachedHashCodeUpToDate()) {
+            // the element at 'index' contributes hashCode * 31^(size - 1 - index), int overflow keeps the arithmetic exact
+            final int hashCodeDifference = Objects.hashCode(element) - Objects.hashCode(previousElement);
+            cachedHashCode += hashCodeDifference * powerOf31(size - 1 - index);
+        }
         return (T) previousElement;
     }
 
     private void checkIndexIsValidElseThrow(int index) {
-        if (size <= index)
+        if (index < 0 || size <= index)
             throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
     }
 
+    private void checkPositionIsValidElseThrow(int index) {
+        if (index < 0 || size < index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + size + "]");
+    }
+
     @Override
     public void add(int indexOfInsertion, T element) {
-        checkIndexIsValidElseThrow(indexOfInsertion);
+        checkPositionIsValidElseThrow(indexOfInsertion);
+        if (isSorted()) {
+            elementsSorted = fitsSortedOrderAt(indexOfInsertion, element, indexOfInsertion);
+        }
+        insertAt(indexOfInsertion, element);
+    }
+
+    private void insertAt(int indexOfInsertion, T element) {
         increaseSizeIfNecessary();
         shiftToRightArrayFromIndex(indexOfInsertion);
         sourceArray[indexOfInsertion] = element;
         size++;
+        if (size - indexOfInsertion - 1 <= ELEMENT_INDEX_PATCH_THRESHOLD && isElementIndexUpToDate()) {
+            elementIndex.onInsert(element, indexOfInsertion, sourceArray, size);
+            elementIndexModCount++;
+        }
+        modCount++;
     }
 
     private void shiftToRightArrayFromIndex(int indexOfInsertion) {
-        Object previousElement = sourceArray[indexOfInsertion];
-        for (int currentIndex = indexOfInsertion + 1; currentIndex < sourceArray.length; currentIndex++) {
-            Object temporaryValue = sourceArray[currentIndex];
-            sourceArray[currentIndex] = previousElement;
-            previousElement = temporaryValue;
+        if (metrics != null) {
+            metrics.onShift(size - indexOfInsertion);
         }
+        System.arraycopy(sourceArray, indexOfInsertion, sourceArray, indexOfInsertion + 1, size - indexOfInsertion);
     }
 
     private void increaseSizeIfNecessary() {
-        if (sourceArray.length == this.size) increaseArraySize(1);
+        if (sourceArray.length == this.size) increaseArraySize(size + 1);
     }
 
     @Override
     public T remove(int index) {
         checkIndexIsValidElseThrow(index);
         final Object removedElement = sourceArray[index];
-        for (int i = index; i < this.size - 1; i++) {
-            sourceArray[i] = sourceArray[i + 1];
+        if (metrics != null) {
+            metrics.onShift(size - index - 1);
         }
-        this.size--;
+        System.arraycopy(sourceArray, index + 1, sourceArray, index, size - index - 1);
+        sourceArray[--this.size] = null;
+        if (size - index <= ELEMENT_INDEX_PATCH_THRESHOLD && isElementIndexUpToDate()) {
+            elementIndex.onRemove(removedElement, index, sourceArray, size);
+            elementIndexModCount++;
+        }
+        modCount++;
+        shrinkIfUnderutilized();
         return (T) removedElement;
     }
 
     @Override
     public int indexOf(Object element) {
-        final Integer index = getFirstIndexOf(element);
-        return Objects.nonNull(index) ? index : -1;
+        return getFirstIndexOf(element);
     }
 
     @Override
     public int lastIndexOf(Object element) {
-        final Integer lastIndexOf = getLastIndexOf(element);
-        return Objects.nonNull(lastIndexOf) ? lastIndexOf : -1;
+        return getLastIndexOf(element);
     }
 
     @Override
@@ -315,121 +755,602 @@ public class CustomArrayList<T> implements List<T> {
 
     @Override
     public ListIterator<T> listIterator(int index) {
+        checkPositionIsValidElseThrow(index);
         return new CustomArrayListListIterator(index);
     }
 
+    // add, remove and set of the returned iterator are recorded into 'recordingBatch' instead of changing the list,
+    // so the iterator keeps walking the original elements and reports their original indexes
+    public ListIterator<T> listIterator(MutationBatch<T> recordingBatch) {
+        if (!recordingBatch.belongsTo(this)) throw new IllegalArgumentException("batch has been created for another list");
+        return new CustomArrayListListIterator(0, recordingBatch);
+    }
+
     @Override
-    public List<T> subList(int fromIndex, int toIndex) {
-        validateIndexes(fromIndex, toIndex);
-        final Object[] subArray = new Object[toIndex - fromIndex];
-        for (int i = fromIndex; i < toIndex; i++) {
-            subArray[i] = sourceArray[i];
+    public Spliterator<T> spliterator() {
+        return new CustomArrayListSpliterator(0, -1, 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final Object[] elements = sourceArray;
+        for (int i = 0; i < size && expectedModCount == modCount; i++) {
+            action.accept((T) elements[i]);
         }
-        return new CustomArrayList<>(subArray);
+        checkForComodification(expectedModCount);
     }
 
-    private void validateIndexes(int fromIndex, int toIndex) {
-        checkIndexIsValidElseThrow(toIndex);
-        checkIndexIsValidElseThrow(fromIndex);
-        if (fromIndex < toIndex) {
+    public MutationBatch<T> mutationBatch() {
+        return new MutationBatch<>(this, size, modCount);
+    }
+
+    // the surviving original elements form runs separated by edits, every run moves as a whole to its final place:
+    // runs moving left are moved first, from left to right, then runs moving right, from right to left,
+    // so no run overwrites one which has not moved yet; inserted and set elements are written last
+    void applyMutationBatch(MutationBatch<T> batch) {
+        checkForComodification(batch.expectedModCount);
+        final int editCount = batch.editCount;
+        final int[] editIndexes = batch.sortedIndexes;
+        final byte[] editKinds = batch.sortedKinds;
+        final Object[] editElements = batch.sortedElements;
+        final int newSize = size + batch.insertCount - batch.removeCount;
+        final Object[] target = newSize > sourceArray.length ? newBackingArray(calculateNewSize(newSize)) : sourceArray;
+
+        final int[] runSources = new int[editCount + 1];
+        final int[] runTargets = new int[editCount + 1];
+        final int[] runLengths = new int[editCount + 1];
+        final int[] placementTargets = new int[editCount];
+        final Object[] placementElements = new Object[editCount];
+        int runCount = 0;
+        int placementCount = 0;
+        int runStart = 0;
+        int shift = 0;
+        for (int i = 0; i <= editCount; i++) {
+            final int runEnd = i < editCount ? editIndexes[i] : size;
+            if (runEnd > runStart) {
+                runSources[runCount] = runStart;
+                runTargets[runCount] = runStart + shift;
+                runLengths[runCount++] = runEnd - runStart;
+                runStart = runEnd;
+            }
+            if (i == editCount) {
+                break;
+            }
+            if (editKinds[i] == MutationBatch.REMOVE) {
+                runStart = runEnd + 1;
+                shift--;
+            } else {
+                placementTargets[placementCount] = runEnd + shift;
+                placementElements[placementCount++] = editElements[i];
+                if (editKinds[i] == MutationBatch.INSERT) {
+                    shift++;
+                }
+            }
+        }
+
+        long movedElements = 0;
+        if (target != sourceArray) {
+            for (int run = 0; run < runCount; run++) {
+                System.arraycopy(sourceArray, runSources[run], target, runTargets[run], runLengths[run]);
+            }
+        } else {
+            for (int run = 0; run < runCount; run++) {
+                if (runTargets[run] < runSources[run]) {
+                    System.arraycopy(target, runSources[run], target, runTargets[run], runLengths[run]);
+                    movedElements += runLengths[run];
+                }
+            }
+            for (int run = runCount - 1; run >= 0; run--) {
+                if (runTargets[run] > runSources[run]) {
+                    System.arraycopy(target, runSources[run], target, runTargets[run], runLengths[run]);
+                    movedElements += runLengths[run];
+                }
+            }
+        }
+        for (int i = 0; i < placementCount; i++) {
+            target[placementTargets[i]] = placementElements[i];
+        }
+
+        if (target != sourceArray) {
+            if (metrics != null) {
+                metrics.onReallocation(target.length, size);
+            }
+            releaseToPool(sourceArray, size);
+            sourceArray = target;
+        } else if (newSize < size) {
+            Arrays.fill(target, newSize, size, null);
+        }
+        if (metrics != null) {
+            metrics.onShift((int) Math.min(movedElements, Integer.MAX_VALUE));
+        }
+        elementsSorted = elementsSorted && placementCount == 0;
+        size = newSize;
+        modCount++;
+        shrinkIfUnderutilized();
+    }
+
+    // push based traversal behind the lazy views, 'sink' returns false to stop before 'toIndex'
+    boolean forEachInRange(int fromIndex, int toIndex, Predicate<? super T> sink) {
+        final int expectedModCount = modCount;
+        final Object[] elements = sourceArray;
+        for (int i = fromIndex; i < toIndex && i < size && expectedModCount == modCount; i++) {
+            if (!sink.test((T) elements[i])) {
+                checkForComodification(expectedModCount);
+                return false;
+            }
+        }
+        checkForComodification(expectedModCount);
+        return true;
+    }
+
+    public <R> CustomArrayListView<R> mapView(Function<? super T, ? extends R> mapper) {
+        return CustomArrayListView.of(this).mapView(mapper);
+    }
+
+    public CustomArrayListView<T> filterView(Predicate<? super T> filter) {
+        return CustomArrayListView.of(this).filterView(filter);
+    }
+
+    public CustomArrayListView<T> sliceView(int fromIndex, int toIndex) {
+        return CustomArrayListView.of(this).sliceView(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        return removeElementsMatching(filter, null, false);
+    }
+
+    // either 'filter' or 'collection' is given, membership in 'collection' is tested directly
+    // so that removeAll and retainAll do not capture a lambda per call
+    private boolean removeElementsMatching(Predicate<? super T> filter, Collection<?> collection, boolean retainMembers) {
+        final int expectedModCount = modCount;
+        final Object[] elements = sourceArray;
+        final int previousSize = size;
+        int indexToRead = 0;
+        int indexToWrite = 0;
+        try {
+            for (; indexToRead < previousSize; indexToRead++) {
+                final Object element = elements[indexToRead];
+                final boolean matches = filter != null ? filter.test((T) element) : collection.contains(element) != retainMembers;
+                if (!matches) {
+                    elements[indexToWrite++] = element;
+                }
+            }
+            checkForComodification(expectedModCount);
+        } finally {
+            // keeps the list consistent when the filter throws half way through
+            if (indexToRead < previousSize) {
+                System.arraycopy(elements, indexToRead, elements, indexToWrite, previousSize - indexToRead);
+                indexToWrite += previousSize - indexToRead;
+            }
+            if (indexToWrite != previousSize) {
+                Arrays.fill(elements, indexToWrite, previousSize, null);
+                size = indexToWrite;
+                modCount++;
+            }
+        }
+        if (indexToWrite == previousSize) {
+            return false;
+        }
+        shrinkIfUnderutilized();
+        return true;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        final Object[] elements = sourceArray;
+        for (int i = 0; i < size && expectedModCount == modCount; i++) {
+            elements[i] = operator.apply((T) elements[i]);
+        }
+        checkForComodification(expectedModCount);
+        modCount++;
+        elementsSorted = false;
+    }
+
+    // large lists are sorted by the fork/join merge sort of Arrays.parallelSort
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        final int expectedModCount = modCount;
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort((T[]) sourceArray, 0, size, comparator);
+        } else {
+            Arrays.sort((T[]) sourceArray, 0, size, comparator);
+        }
+        checkForComodification(expectedModCount);
+        modCount++;
+        if (sortedModeComparator != null) {
+            elementsSorted = sortedModeComparator.equals(comparator != null ? comparator : NATURAL_ORDER);
+        }
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        validateIndexes(fromIndex, toIndex, size);
+        return new SubListView(null, fromIndex, toIndex);
+    }
+
+    private static void validateIndexes(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException("passed range [" + fromIndex + ".." + toIndex + ") is out of range [0.." + size + "]");
+        }
+        if (fromIndex > toIndex) {
             throw new IndexOutOfBoundsException("'fromIndex' should be less or equal in comparison with 'toIndex', for now fromIndex is '"
                                                         + fromIndex + "', toIndex is '" + toIndex + "'");
         }
     }
 
+    private void removeRange(int fromIndex, int toIndex) {
+        final int amountOfRemovedElements = toIndex - fromIndex;
+        if (amountOfRemovedElements == 0) {
+            return;
+        }
+        if (metrics != null) {
+            metrics.onShift(size - toIndex);
+        }
+        System.arraycopy(sourceArray, toIndex, sourceArray, fromIndex, size - toIndex);
+        Arrays.fill(sourceArray, size - amountOfRemovedElements, size, null);
+        size -= amountOfRemovedElements;
+        modCount++;
+        shrinkIfUnderutilized();
+    }
+
+    // shares 'sourceArray' with the enclosing list, 'offset' is always absolute to the enclosing list
+    private class SubListView extends AbstractList<T> implements RandomAccess {
+
+        private final SubListView parent;
+        private final int offset;
+        private int size;
+
+        SubListView(SubListView parent, int fromIndex, int toIndex) {
+            this.parent = parent;
+            this.offset = parent == null ? fromIndex : parent.offset + fromIndex;
+            this.size = toIndex - fromIndex;
+            this.modCount = CustomArrayList.this.modCount;
+        }
+
+        @Override
+        public T get(int index) {
+            checkIndexInViewIsValidElseThrow(index);
+            checkForComodification();
+            return (T) sourceArray[offset + index];
+        }
+
+        @Override
+        public T set(int index, T element) {
+            checkIndexInViewIsValidElseThrow(index);
+            checkForComodification();
+            return CustomArrayList.this.set(offset + index, element);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public void add(int index, T element) {
+            checkPositionInViewIsValidElseThrow(index);
+            checkForComodification();
+            CustomArrayList.this.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public T remove(int index) {
+            checkIndexInViewIsValidElseThrow(index);
+            checkForComodification();
+            final T removedElement = CustomArrayList.this.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return removedElement;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            CustomArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends T> collection) {
+            return addAll(size, collection);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> collection) {
+            checkPositionInViewIsValidElseThrow(index);
+            checkForComodification();
+            final int previousRootSize = CustomArrayList.this.size;
+            CustomArrayList.this.addAll(offset + index, collection);
+            final int amountOfAddedElements = CustomArrayList.this.size - previousRootSize;
+            updateSizeAndModCount(amountOfAddedElements);
+            return amountOfAddedElements != 0;
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            validateIndexes(fromIndex, toIndex, size);
+            return new SubListView(this, fromIndex, toIndex);
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            for (SubListView view = this; view != null; view = view.parent) {
+                view.size += sizeChange;
+                view.modCount = CustomArrayList.this.modCount;
+            }
+        }
+
+        private void checkForComodification() {
+            if (CustomArrayList.this.modCount != this.modCount) throw new ConcurrentModificationException();
+        }
+
+        private void checkIndexInViewIsValidElseThrow(int index) {
+            if (index < 0 || size <= index)
+                throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
+        }
+
+        private void checkPositionInViewIsValidElseThrow(int index) {
+            if (index < 0 || size < index)
+                throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + size + "]");
+        }
+    }
+
 
     private class CustomArrayListListIterator implements ListIterator<T> {
 
-        private boolean wasModified;
-        private int currentPosition;
-        private boolean haveMovementMethodInvoked;
+        private int nextPosition;
+        private int lastReturnedPosition;
+        private int expectedModCount;
+        private final MutationBatch<T> recordingBatch;
 
         public CustomArrayListListIterator() {
-            this.currentPosition = -1;
-            this.wasModified = false;
+            this(0);
         }
 
-        public CustomArrayListListIterator(int currentPosition) {
-            this.currentPosition = currentPosition;
+        public CustomArrayListListIterator(int nextPosition) {
+            this(nextPosition, null);
+        }
+
+        CustomArrayListListIterator(int nextPosition, MutationBatch<T> recordingBatch) {
+            this.nextPosition = nextPosition;
+            this.lastReturnedPosition = -1;
+            this.expectedModCount = modCount;
+            this.recordingBatch = recordingBatch;
         }
 
         @Override
         public boolean hasNext() {
-            return size - 1 > currentPosition;
+            return nextPosition < size;
         }
 
         @Override
         public T next() {
+            checkForComodification(expectedModCount);
             if (!this.hasNext()) throw new NoSuchElementException("No next element");
-            haveMovementMethodInvoked = true;
-            wasModified = false;
-            return (T) sourceArray[++currentPosition];
+            lastReturnedPosition = nextPosition++;
+            return (T) sourceArray[lastReturnedPosition];
         }
 
         @Override
         public boolean hasPrevious() {
-            return currentPosition > 0;
+            return nextPosition > 0;
         }
 
         @Override
         public T previous() {
+            checkForComodification(expectedModCount);
             if (!this.hasPrevious()) throw new NoSuchElementException("No previous element");
-            haveMovementMethodInvoked = true;
-            wasModified = false;
-            return (T) sourceArray[--currentPosition];
+            lastReturnedPosition = --nextPosition;
+            return (T) sourceArray[lastReturnedPosition];
         }
 
         @Override
         public int nextIndex() {
-            return Math.max(currentPosition + 1, size);
+            return nextPosition;
         }
 
         @Override
         public int previousIndex() {
-            return currentPosition > 0 ? currentPosition - 1 : -1;
+            return nextPosition - 1;
         }
 
         @Override
         public void remove() {
-            if (wasModified) throw new IllegalStateException("'add' method was already been called on this element");
             checkNextOrPreviousMethodsInvocationsExistance();
-            CustomArrayList.this.remove(currentPosition);
-            wasModified = true;
+            checkForComodification(expectedModCount);
+            if (recordingBatch != null) {
+                recordingBatch.remove(lastReturnedPosition);
+                lastReturnedPosition = -1;
+                return;
+            }
+            CustomArrayList.this.remove(lastReturnedPosition);
+            nextPosition = lastReturnedPosition;
+            lastReturnedPosition = -1;
+            expectedModCount = modCount;
         }
 
         @Override
         public void set(T element) {
-            if (wasModified) throw new IllegalStateException("'add' or 'remove' methods have been already invoked");
             checkNextOrPreviousMethodsInvocationsExistance();
-            CustomArrayList.this.set(currentPosition, element);
+            checkForComodification(expectedModCount);
+            if (recordingBatch != null) {
+                recordingBatch.set(lastReturnedPosition, element);
+                return;
+            }
+            CustomArrayList.this.set(lastReturnedPosition, element);
         }
 
         private void checkNextOrPreviousMethodsInvocationsExistance() {
-            if (!haveMovementMethodInvoked) throw new IllegalStateException("'previous' or 'next' methods have not been called yet");
+            if (lastReturnedPosition < 0)
+                throw new IllegalStateException("'previous' or 'next' methods have not been called since the last 'add' or 'remove'");
         }
 
         @Override
         public void add(T element) {
-            if (wasModified) throw new IllegalStateException("'remove' method was already been called on this element");
-            checkNextOrPreviousMethodsInvocationsExistance();
-            CustomArrayList.this.add(currentPosition, element);
-            wasModified = true;
+            checkForComodification(expectedModCount);
+            if (recordingBatch != null) {
+                recordingBatch.insert(nextPosition, element);
+                lastReturnedPosition = -1;
+                return;
+            }
+            CustomArrayList.this.add(nextPosition++, element);
+            lastReturnedPosition = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private class CustomArrayListSpliterator implements Spliterator<T> {
+
+        private int currentPosition;
+        private int fence;
+        private int expectedModCount;
+
+        // fence of -1 binds the range to the list size on first use
+        CustomArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.currentPosition = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int high = getFence();
+            final int low = currentPosition;
+            final int middle = (low + high) >>> 1;
+            if (low >= middle) {
+                return null;
+            }
+            currentPosition = middle;
+            return new CustomArrayListSpliterator(low, middle, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            final int high = getFence();
+            if (currentPosition >= high) {
+                return false;
+            }
+            final T element = (T) sourceArray[currentPosition++];
+            action.accept(element);
+            checkForComodification(expectedModCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            final int high = getFence();
+            final Object[] elements = sourceArray;
+            for (int i = currentPosition; i < high; i++) {
+                action.accept((T) elements[i]);
+            }
+            currentPosition = high;
+            checkForComodification(expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - currentPosition;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        CustomArrayList<?> that = (CustomArrayList<?>) o;
-        return size == that.size &&
-                Arrays.equals(sourceArray, that.sourceArray);
+        if (!(o instanceof List)) return false;
+        if (o instanceof CustomArrayList) {
+            return equalsCustomArrayList((CustomArrayList<?>) o);
+        }
+        final int expectedModCount = modCount;
+        final Iterator<?> otherIterator = ((List<?>) o).iterator();
+        final Object[] elements = sourceArray;
+        for (int i = 0; i < size; i++) {
+            if (!otherIterator.hasNext() || !Objects.equals(elements[i], otherIterator.next())) {
+                return false;
+            }
+        }
+        checkForComodification(expectedModCount);
+        return !otherIterator.hasNext();
+    }
+
+    private boolean equalsCustomArrayList(CustomArrayList<?> that) {
+        if (size != that.size) return false;
+        if (isCachedHashCodeUpToDate() && that.isCachedHashCodeUpToDate() && cachedHashCode != that.cachedHashCode) {
+            return false;
+        }
+        final Object[] elements = sourceArray;
+        final Object[] otherElements = that.sourceArray;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(elements[i], otherElements[i])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(size);
-        result = 31 * result + Arrays.hashCode(sourceArray);
+        if (isCachedHashCodeUpToDate()) {
+            return cachedHashCode;
+        }
+        final Object[] elements = sourceArray;
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Objects.hashCode(elements[i]);
+        }
+        if (hashCodeCaching) {
+            cachedHashCode = hashCode;
+            cachedHashCodeModCount = modCount;
+        }
+        return hashCode;
+    }
+
+    // appends and 'set' keep the cached hash code up to date,
+    // any other structural modification makes the next hashCode call recompute it
+    public void enableHashCodeCaching() {
+        if (!hashCodeCaching) {
+            hashCodeCaching = true;
+            cachedHashCodeModCount = modCount - 1;
+        }
+    }
+
+    public void disableHashCodeCaching() {
+        hashCodeCaching = false;
+    }
+
+    private boolean isCachedHashCodeUpToDate() {
+        return hashCodeCaching && cachedHashCodeModCount == modCount;
+    }
+
+    private static int powerOf31(int exponent) {
+        int result = 1;
+        int base = 31;
+        for (; exponent > 0; exponent >>= 1) {
+            if ((exponent & 1) == 1) {
+                result *= base;
+            }
+            base *= base;
+        }
         return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+// file layout: a fixed header followed by 'size' records of 'elementByteSize' bytes each, all little endian
+// header: magic (int) | format version (int) | element byte size (int) | size (int)
+public final class CustomArrayListFiles {
+
+    static final int MAGIC = 0x43414C31;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTE_SIZE = 4 * Integer.BYTES;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final int TRANSFER_CHUNK_BYTE_SIZE = 64 * 1024;
+    private static final int MAPPED_SEGMENT_BYTE_SIZE = 1 << 30;
+
+    private CustomArrayListFiles() {
+    }
+
+    public static <T> void write(Path path, CustomArrayList<? extends T> list, ElementCodec<T> codec) throws IOException {
+        Objects.requireNonNull(list, "'list' should not be null");
+        final int elementByteSize = checkCodecElseThrow(codec);
+        final int size = list.size();
+        final ByteBuffer chunk = allocateChunk(elementByteSize);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            chunk.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(elementByteSize).putInt(size);
+            for (int i = 0; i < size; i++) {
+                if (chunk.remaining() < elementByteSize) {
+                    writeFully(channel, chunk);
+                }
+                codec.write(chunk, chunk.position(), list.get(i));
+                chunk.position(chunk.position() + elementByteSize);
+            }
+            writeFully(channel, chunk);
+        } finally {
+            DirectMemory.release(chunk);
+        }
+    }
+
+    // the backing array is allocated once with the exact size taken from the header
+    public static <T> CustomArrayList<T> read(Path path, ElementCodec<T> codec) throws IOException {
+        final int elementByteSize = checkCodecElseThrow(codec);
+        final ByteBuffer chunk = allocateChunk(elementByteSize);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            chunk.limit(HEADER_BYTE_SIZE);
+            readFully(channel, chunk);
+            chunk.flip();
+            final int size = readHeader(chunk, elementByteSize, path);
+            checkFileHoldsElementsElseThrow(channel.size(), size, elementByteSize, path);
+            final CustomArrayList<T> list = new CustomArrayList<>(size);
+            chunk.clear();
+            while (list.size() < size) {
+                chunk.limit(Math.min(chunk.capacity() / elementByteSize, size - list.size()) * elementByteSize);
+                readFully(channel, chunk);
+                chunk.flip();
+                for (int offset = 0; offset < chunk.limit(); offset += elementByteSize) {
+                    list.add(codec.read(chunk, offset));
+                }
+                chunk.clear();
+            }
+            return list;
+        } finally {
+            DirectMemory.release(chunk);
+        }
+    }
+
+    // elements are decoded on access straight from the page cache, nothing is copied onto the heap
+    public static <T> MappedCustomArrayList<T> map(Path path, ElementCodec<T> codec) throws IOException {
+        return map(path, codec, MAPPED_SEGMENT_BYTE_SIZE);
+    }
+
+    // a mapping is int addressed and ends at 2 GiB, so the elements are mapped as segments of at most
+    // 'segmentByteSize' bytes, each holding a power of two of whole records
+    static <T> MappedCustomArrayList<T> map(Path path, ElementCodec<T> codec, int segmentByteSize) throws IOException {
+        final int elementByteSize = checkCodecElseThrow(codec);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileByteSize = channel.size();
+            if (fileByteSize < HEADER_BYTE_SIZE) {
+                throw new EOFException("File '" + path + "' is shorter than the header");
+            }
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTE_SIZE).order(BYTE_ORDER);
+            readFully(channel, header);
+            final int size = readHeader(header, elementByteSize, path);
+            checkFileHoldsElementsElseThrow(fileByteSize, size, elementByteSize, path);
+            final int segmentShift = 31 - Integer.numberOfLeadingZeros(Math.max(1, segmentByteSize / elementByteSize));
+            final int elementsPerSegment = 1 << segmentShift;
+            final ByteBuffer[] segments = new ByteBuffer[(int) (((long) size + elementsPerSegment - 1) >>> segmentShift)];
+            try {
+                for (int i = 0; i < segments.length; i++) {
+                    final long firstElement = (long) i << segmentShift;
+                    final long segmentElements = Math.min(elementsPerSegment, size - firstElement);
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTE_SIZE + firstElement * elementByteSize,
+                                              segmentElements * elementByteSize).order(BYTE_ORDER);
+                }
+            } catch (IOException | RuntimeException e) {
+                for (ByteBuffer segment : segments) {
+                    DirectMemory.release(segment);
+                }
+                throw e;
+            }
+            return new MappedCustomArrayList<>(segments, segmentShift, codec, size);
+        }
+    }
+
+    private static int checkCodecElseThrow(ElementCodec<?> codec) {
+        Objects.requireNonNull(codec, "'codec' should not be null");
+        final int elementByteSize = codec.byteSize();
+        if (elementByteSize <= 0 || elementByteSize > TRANSFER_CHUNK_BYTE_SIZE) {
+            throw new IllegalArgumentException("Codec byte size to be expected in range [1.." + TRANSFER_CHUNK_BYTE_SIZE
+                                               + "], but was " + elementByteSize);
+        }
+        return elementByteSize;
+    }
+
+    private static int readHeader(ByteBuffer header, int elementByteSize, Path path) throws IOException {
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("File '" + path + "' is not a CustomArrayList file");
+        }
+        final int formatVersion = header.getInt(Integer.BYTES);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("File '" + path + "' has unsupported format version " + formatVersion);
+        }
+        final int writtenElementByteSize = header.getInt(2 * Integer.BYTES);
+        if (writtenElementByteSize != elementByteSize) {
+            throw new IllegalArgumentException("File '" + path + "' holds elements of " + writtenElementByteSize
+                                               + " bytes, but codec expects " + elementByteSize);
+        }
+        final int size = header.getInt(3 * Integer.BYTES);
+        if (size < 0) {
+            throw new IOException("File '" + path + "' has corrupted size " + size);
+        }
+        return size;
+    }
+
+    // a corrupted size must fail before the backing array is allocated from it
+    private static void checkFileHoldsElementsElseThrow(long fileByteSize, int size, int elementByteSize, Path path) throws IOException {
+        if (HEADER_BYTE_SIZE + (long) size * elementByteSize > fileByteSize) {
+            throw new EOFException("File '" + path + "' is shorter than its " + size + " elements");
+        }
+    }
+
+    // a direct chunk lets the channel transfer without an intermediate copy, it fits the header plus whole records
+    private static ByteBuffer allocateChunk(int elementByteSize) {
+        final int recordsPerChunk = Math.max(1, (TRANSFER_CHUNK_BYTE_SIZE - HEADER_BYTE_SIZE) / elementByteSize);
+        return DirectMemory.allocate(HEADER_BYTE_SIZE + recordsPerChunk * elementByteSize).order(BYTE_ORDER);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        while (chunk.hasRemaining()) {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer chunk) throws IOException {
+        while (chunk.hasRemaining()) {
+            if (channel.read(chunk) < 0) {
+                throw new EOFException("Unexpected end of file, " + chunk.remaining() + " bytes are missing");
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+// the elements themselves are not counted, other references may keep them alive after the list is gone
+public final class CustomArrayListFootprint {
+
+    private final int size;
+    private final int capacity;
+
+    CustomArrayListFootprint(int size, int capacity) {
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // an empty list with an empty backing array counts as fully utilized
+    public double getUtilization() {
+        return capacity == 0 ? 1.0 : (double) size / capacity;
+    }
+
+    // the backing array including its header and alignment padding
+    public long getRetainedBytes() {
+        return CustomArrayListMetrics.arrayByteSize(capacity);
+    }
+
+    public long getWastedBytes() {
+        return (long) (capacity - size) * CustomArrayListMetrics.REFERENCE_BYTE_SIZE;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomArrayListFootprint{" +
+                "size=" + size +
+                ", capacity=" + capacity +
+                ", utilization=" + getUtilization() +
+                ", retainedBytes=" + getRetainedBytes() +
+                ", wastedBytes=" + getWastedBytes() +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+// counters are plain fields, the list is single threaded and a JMX reader may observe slightly stale values
+final class CustomArrayListMetrics {
+
+    // compressed oops make a reference 4 bytes, the lookup falls back to 8 bytes when jdk.unsupported is not available
+    static final int REFERENCE_BYTE_SIZE;
+    // mark word, class pointer and length, 16 bytes with compressed class pointers
+    static final int ARRAY_HEADER_BYTE_SIZE;
+    static final int OBJECT_ALIGNMENT_BYTE_SIZE = 8;
+
+    static {
+        int referenceByteSize;
+        int arrayHeaderByteSize;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            referenceByteSize = unsafeClass.getField("ARRAY_OBJECT_INDEX_SCALE").getInt(null);
+            arrayHeaderByteSize = unsafeClass.getField("ARRAY_OBJECT_BASE_OFFSET").getInt(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            referenceByteSize = 8;
+            arrayHeaderByteSize = 16;
+        }
+        REFERENCE_BYTE_SIZE = referenceByteSize;
+        ARRAY_HEADER_BYTE_SIZE = arrayHeaderByteSize;
+    }
+
+    static long arrayByteSize(int capacity) {
+        final long unalignedByteSize = ARRAY_HEADER_BYTE_SIZE + (long) capacity * REFERENCE_BYTE_SIZE;
+        return (unalignedByteSize + OBJECT_ALIGNMENT_BYTE_SIZE - 1) & -OBJECT_ALIGNMENT_BYTE_SIZE;
+    }
+
+    private long reallocations;
+    private long copiedElements;
+    private long shiftedElements;
+    private long scans;
+    private long scannedElements;
+    private int longestScan;
+    private int peakCapacity;
+
+    CustomArrayListMetrics(int capacity) {
+        this.peakCapacity = capacity;
+    }
+
+    void onReallocation(int newCapacity, int copiedElementCount) {
+        reallocations++;
+        copiedElements += copiedElementCount;
+        peakCapacity = Math.max(peakCapacity, newCapacity);
+    }
+
+    void onShift(int shiftedElementCount) {
+        shiftedElements += shiftedElementCount;
+    }
+
+    void onScan(int scanLength) {
+        scans++;
+        scannedElements += scanLength;
+        longestScan = Math.max(longestScan, scanLength);
+    }
+
+    CustomArrayListStats stats(int size, int capacity) {
+        return new CustomArrayListStats(size, capacity, Math.max(peakCapacity, capacity), reallocations,
+                                        (copiedElements + shiftedElements) * REFERENCE_BYTE_SIZE, shiftedElements,
+                                        scans, scannedElements, longestScan);
+    }
+}
@@ -0,0 +1,30 @@
+public interface CustomArrayListMetricsMXBean {
+
+    boolean isEnabled();
+
+    int getSize();
+
+    int getCapacity();
+
+    int getPeakCapacity();
+
+    int getWastedCapacity();
+
+    long getReallocations();
+
+    long getCopiedBytes();
+
+    long getShiftedElements();
+
+    long getScans();
+
+    long getScannedElements();
+
+    int getLongestScan();
+
+    double getAverageScanLength();
+
+    double getUtilization();
+
+    long getRetainedBytes();
+}
@@ -0,0 +1,116 @@
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+
+public final class CustomArrayListMetricsMXBeans {
+
+    private CustomArrayListMetricsMXBeans() {
+    }
+
+    // the registered bean keeps the list reachable until it is unregistered
+    public static ObjectName register(CustomArrayList<?> list, String listName) {
+        Objects.requireNonNull(list, "'list' should not be null");
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = new ObjectName("CustomArrayList:type=Metrics,name=" + ObjectName.quote(listName));
+            mBeanServer.registerMBean(new ListMetricsBean(list), objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register metrics of list '" + listName + "'", e);
+        }
+    }
+
+    public static void unregister(ObjectName objectName) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to unregister '" + objectName + "'", e);
+        }
+    }
+
+    private static final class ListMetricsBean implements CustomArrayListMetricsMXBean {
+
+        private final CustomArrayList<?> list;
+
+        ListMetricsBean(CustomArrayList<?> list) {
+            this.list = list;
+        }
+
+        // a disabled list still reports its size and capacity, every counter reads as zero
+        private CustomArrayListStats stats() {
+            return list.metricsStatsOrZeroes();
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return list.isMetricsEnabled();
+        }
+
+        @Override
+        public int getSize() {
+            return stats().getSize();
+        }
+
+        @Override
+        public int getCapacity() {
+            return stats().getCapacity();
+        }
+
+        @Override
+        public int getPeakCapacity() {
+            return stats().getPeakCapacity();
+        }
+
+        @Override
+        public int getWastedCapacity() {
+            return stats().getWastedCapacity();
+        }
+
+        @Override
+        public long getReallocations() {
+            return stats().getReallocations();
+        }
+
+        @Override
+        public long getCopiedBytes() {
+            return stats().getCopiedBytes();
+        }
+
+        @Override
+        public long getShiftedElements() {
+            return stats().getShiftedElements();
+        }
+
+        @Override
+        public long getScans() {
+            return stats().getScans();
+        }
+
+        @Override
+        public long getScannedElements() {
+            return stats().getScannedElements();
+        }
+
+        @Override
+        public int getLongestScan() {
+            return stats().getLongestScan();
+        }
+
+        @Override
+        public double getAverageScanLength() {
+            return stats().getAverageScanLength();
+        }
+
+        @Override
+        public double getUtilization() {
+            return list.footprint().getUtilization();
+        }
+
+        @Override
+        public long getRetainedBytes() {
+            return list.footprint().getRetainedBytes();
+        }
+    }
+}
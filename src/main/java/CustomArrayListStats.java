@@ -0,0 +1,87 @@
+public final class CustomArrayListStats {
+
+    private final int size;
+    private final int capacity;
+    private final int peakCapacity;
+    private final long reallocations;
+    private final long copiedBytes;
+    private final long shiftedElements;
+    private final long scans;
+    private final long scannedElements;
+    private final int longestScan;
+
+    CustomArrayListStats(int size, int capacity, int peakCapacity, long reallocations, long copiedBytes,
+                         long shiftedElements, long scans, long scannedElements, int longestScan) {
+        this.size = size;
+        this.capacity = capacity;
+        this.peakCapacity = peakCapacity;
+        this.reallocations = reallocations;
+        this.copiedBytes = copiedBytes;
+        this.shiftedElements = shiftedElements;
+        this.scans = scans;
+        this.scannedElements = scannedElements;
+        this.longestScan = longestScan;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getPeakCapacity() {
+        return peakCapacity;
+    }
+
+    public int getWastedCapacity() {
+        return capacity - size;
+    }
+
+    // growth, automatic shrinking and trimToSize all replace the backing array
+    public long getReallocations() {
+        return reallocations;
+    }
+
+    // references moved by reallocations and by shifts of positional inserts and removals
+    public long getCopiedBytes() {
+        return copiedBytes;
+    }
+
+    public long getShiftedElements() {
+        return shiftedElements;
+    }
+
+    // linear indexOf/lastIndexOf/contains scans, lookups answered by the element index are not counted
+    public long getScans() {
+        return scans;
+    }
+
+    public long getScannedElements() {
+        return scannedElements;
+    }
+
+    public int getLongestScan() {
+        return longestScan;
+    }
+
+    public double getAverageScanLength() {
+        return scans == 0 ? 0.0 : (double) scannedElements / scans;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomArrayListStats{" +
+                "size=" + size +
+                ", capacity=" + capacity +
+                ", peakCapacity=" + peakCapacity +
+                ", reallocations=" + reallocations +
+                ", copiedBytes=" + copiedBytes +
+                ", shiftedElements=" + shiftedElements +
+                ", scans=" + scans +
+                ", scannedElements=" + scannedElements +
+                ", longestScan=" + longestScan +
+                '}';
+    }
+}
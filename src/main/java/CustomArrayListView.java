@@ -0,0 +1,403 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// read-only lazy view over a CustomArrayList, every access goes through to the source list, so the view reflects its
+// current content; forEach, toArray and materialize push the elements through all chained steps in a single loop
+public abstract class CustomArrayListView<T> extends AbstractList<T> {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 16;
+    private static final GrowthPolicy COLLECTOR_GROWTH_POLICY = GrowthPolicy.doubling();
+
+    CustomArrayListView() {
+    }
+
+    static <T> CustomArrayListView<T> of(CustomArrayList<T> source) {
+        return new SourceView<>(source);
+    }
+
+    // pushes the elements at view positions [fromIndex, toIndex) until 'sink' returns false, returns false only in that case
+    abstract boolean forEachInRange(int fromIndex, int toIndex, Predicate<? super T> sink);
+
+    public <R> CustomArrayListView<R> mapView(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return this instanceof RandomAccess ? new RandomAccessMapView<>(this, mapper) : new MapView<>(this, mapper);
+    }
+
+    public CustomArrayListView<T> filterView(Predicate<? super T> filter) {
+        return new FilterView<>(this, Objects.requireNonNull(filter));
+    }
+
+    public CustomArrayListView<T> sliceView(int fromIndex, int toIndex) {
+        final int size = size();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("passed range [" + fromIndex + ".." + toIndex + ") is out of range [0.." + size + "]");
+        return this instanceof RandomAccess
+                ? new RandomAccessSliceView<>(this, fromIndex, toIndex)
+                : new SliceView<>(this, fromIndex, toIndex);
+    }
+
+    public CustomArrayList<T> materialize() {
+        final CustomArrayList<T> list = new CustomArrayList<>(sizeHint());
+        forEachInRange(0, Integer.MAX_VALUE, list::add);
+        return list;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        forEachInRange(0, Integer.MAX_VALUE, element -> {
+            action.accept(element);
+            return true;
+        });
+    }
+
+    @Override
+    public Object[] toArray() {
+        final ArrayCollector<T> collector = new ArrayCollector<>(sizeHint());
+        forEachInRange(0, Integer.MAX_VALUE, collector);
+        return collector.toArray();
+    }
+
+    // random access views know their size upfront, the size of a filtered view is only known after a full pass
+    private int sizeHint() {
+        return this instanceof RandomAccess ? size() : DEFAULT_ALLOCATION_SIZE;
+    }
+
+    private static final class ArrayCollector<T> implements Predicate<T> {
+
+        Object[] elements;
+        int count;
+
+        ArrayCollector(int initialCapacity) {
+            this.elements = new Object[initialCapacity];
+        }
+
+        @Override
+        public boolean test(T element) {
+            if (count == elements.length) {
+                elements = Arrays.copyOf(elements, Capacities.calculateNewCapacity(COLLECTOR_GROWTH_POLICY, elements.length, count + 1));
+            }
+            elements[count++] = element;
+            return true;
+        }
+
+        Object[] toArray() {
+            return count == elements.length ? elements : Arrays.copyOf(elements, count);
+        }
+    }
+
+    private static final class SourceView<T> extends CustomArrayListView<T> implements RandomAccess {
+
+        private final CustomArrayList<T> source;
+
+        SourceView(CustomArrayList<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        boolean forEachInRange(int fromIndex, int toIndex, Predicate<? super T> sink) {
+            return source.forEachInRange(fromIndex, toIndex, sink);
+        }
+
+        @Override
+        public T get(int index) {
+            return source.get(index);
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return source.iterator();
+        }
+    }
+
+    private static class MapView<S, T> extends CustomArrayListView<T> {
+
+        private final CustomArrayListView<S> upstream;
+        private final Function<? super S, ? extends T> mapper;
+
+        MapView(CustomArrayListView<S> upstream, Function<? super S, ? extends T> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        boolean forEachInRange(int fromIndex, int toIndex, Predicate<? super T> sink) {
+            return upstream.forEachInRange(fromIndex, toIndex, element -> sink.test(mapper.apply(element)));
+        }
+
+        @Override
+        public T get(int index) {
+            return mapper.apply(upstream.get(index));
+        }
+
+        @Override
+        public int size() {
+            return upstream.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Iterator<S> upstreamIterator = upstream.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return upstreamIterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    return mapper.apply(upstreamIterator.next());
+                }
+            };
+        }
+    }
+
+    private static final class RandomAccessMapView<S, T> extends MapView<S, T> implements RandomAccess {
+
+        RandomAccessMapView(CustomArrayListView<S> upstream, Function<? super S, ? extends T> mapper) {
+            super(upstream, mapper);
+        }
+    }
+
+    // positions of a filtered view are only known by counting matches from the start, so get and size are linear
+    private static final class FilterView<T> extends CustomArrayListView<T> {
+
+        private final CustomArrayListView<T> upstream;
+        private final Predicate<? super T> filter;
+
+        FilterView(CustomArrayListView<T> upstream, Predicate<? super T> filter) {
+            this.upstream = upstream;
+            this.filter = filter;
+        }
+
+        @Override
+        boolean forEachInRange(int fromIndex, int toIndex, Predicate<? super T> sink) {
+            final FilteredRangeSink<T> rangeSink = new FilteredRangeSink<>(filter, fromIndex, toIndex, sink);
+            upstream.forEachInRange(0, Integer.MAX_VALUE, rangeSink);
+            return !rangeSink.stoppedBySink;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0) throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size() - 1) + "]");
+            final Object[] found = new Object[1];
+            if (forEachInRange(index, index + 1, element -> {
+                found[0] = element;
+                return false;
+            })) {
+                throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size() - 1) + "]");
+            }
+            return (T) found[0];
+        }
+
+        @Override
+        public int size() {
+            final int[] size = new int[1];
+            forEachInRange(0, Integer.MAX_VALUE, element -> {
+                size[0]++;
+                return true;
+            });
+            return size[0];
+        }
+
+        @Override
+        public int indexOf(Object element) {
+            final int[] position = {0};
+            if (forEachInRange(0, Integer.MAX_VALUE, candidate -> {
+                if (Objects.equals(candidate, element)) {
+                    return false;
+                }
+                position[0]++;
+                return true;
+            })) {
+                return -1;
+            }
+            return position[0];
+        }
+
+        @Override
+        public int lastIndexOf(Object element) {
+            final int[] positions = {0, -1};
+            forEachInRange(0, Integer.MAX_VALUE, candidate -> {
+                if (Objects.equals(candidate, element)) {
+                    positions[1] = positions[0];
+                }
+                positions[0]++;
+                return true;
+            });
+            return positions[1];
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof List)) {
+                return false;
+            }
+            final Iterator<?> otherIterator = ((List<?>) object).iterator();
+            final boolean[] equal = {true};
+            forEachInRange(0, Integer.MAX_VALUE, element -> {
+                equal[0] = otherIterator.hasNext() && Objects.equals(element, otherIterator.next());
+                return equal[0];
+            });
+            return equal[0] && !otherIterator.hasNext();
+        }
+
+        // a list iterator moves both ways, so the matches are collected in a single pass when it is created
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            return ((List<T>) Collections.unmodifiableList(Arrays.asList(toArray()))).listIterator(index);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Iterator<T> upstreamIterator = upstream.iterator();
+            return new Iterator<>() {
+                T nextElement;
+                boolean hasNextElement;
+
+                @Override
+                public boolean hasNext() {
+                    while (!hasNextElement && upstreamIterator.hasNext()) {
+                        final T element = upstreamIterator.next();
+                        if (filter.test(element)) {
+                            nextElement = element;
+                            hasNextElement = true;
+                        }
+                    }
+                    return hasNextElement;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException("next element is absent");
+                    }
+                    hasNextElement = false;
+                    final T element = nextElement;
+                    nextElement = null;
+                    return element;
+                }
+            };
+        }
+    }
+
+    private static final class FilteredRangeSink<T> implements Predicate<T> {
+
+        private final Predicate<? super T> filter;
+        private final int fromIndex;
+        private final int toIndex;
+        private final Predicate<? super T> sink;
+        int position;
+        boolean stoppedBySink;
+
+        FilteredRangeSink(Predicate<? super T> filter, int fromIndex, int toIndex, Predicate<? super T> sink) {
+            this.filter = filter;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.sink = sink;
+        }
+
+        // the upstream traversal ends as soon as the position passes 'toIndex'
+        @Override
+        public boolean test(T element) {
+            if (!filter.test(element)) {
+                return true;
+            }
+            final int currentPosition = position++;
+            if (currentPosition < fromIndex) {
+                return true;
+            }
+            if (currentPosition >= toIndex) {
+                return false;
+            }
+            stoppedBySink = !sink.test(element);
+            return !stoppedBySink;
+        }
+    }
+
+    // the window is fixed at creation and shrinks when the upstream becomes shorter than its end
+    private static class SliceView<T> extends CustomArrayListView<T> {
+
+        private final CustomArrayListView<T> upstream;
+        private final int fromIndex;
+        private final int toIndex;
+
+        SliceView(CustomArrayListView<T> upstream, int fromIndex, int toIndex) {
+            this.upstream = upstream;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        boolean forEachInRange(int fromIndex, int toIndex, Predicate<? super T> sink) {
+            final int upstreamToIndex = (int) Math.min((long) this.fromIndex + toIndex, this.toIndex);
+            return upstream.forEachInRange(this.fromIndex + fromIndex, upstreamToIndex, sink);
+        }
+
+        @Override
+        public T get(int index) {
+            final int size = size();
+            if (index < 0 || size <= index)
+                throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
+            return upstream.get(fromIndex + index);
+        }
+
+        @Override
+        public int size() {
+            return Math.max(0, Math.min(toIndex, upstream.size()) - fromIndex);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            if (upstream instanceof RandomAccess) {
+                return super.iterator();
+            }
+            final Iterator<T> upstreamIterator = upstream.iterator();
+            for (int i = 0; i < fromIndex && upstreamIterator.hasNext(); i++) {
+                upstreamIterator.next();
+            }
+            return new Iterator<>() {
+                int remaining = toIndex - fromIndex;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0 && upstreamIterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException("next element is absent");
+                    }
+                    remaining--;
+                    return upstreamIterator.next();
+                }
+            };
+        }
+    }
+
+    private static final class RandomAccessSliceView<T> extends SliceView<T> implements RandomAccess {
+
+        RandomAccessSliceView(CustomArrayListView<T> upstream, int fromIndex, int toIndex) {
+            super(upstream, fromIndex, toIndex);
+        }
+    }
+}
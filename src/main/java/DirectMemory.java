@@ -0,0 +1,59 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+final class DirectMemory {
+
+    // sun.misc.Unsafe#invokeCleaner frees a direct buffer right away instead of waiting for the GC,
+    // the lookup falls back to GC driven release when jdk.unsupported is not available
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectMemory() {
+    }
+
+    static ByteBuffer allocate(int byteSize) {
+        return ByteBuffer.allocateDirect(byteSize).order(ByteOrder.nativeOrder());
+    }
+
+    // direct-to-direct bulk put is backed by Unsafe.copyMemory, which handles overlapping regions like memmove
+    static void copy(ByteBuffer source, int sourceOffset, ByteBuffer target, int targetOffset, int byteLength) {
+        if (byteLength == 0) {
+            return;
+        }
+        final ByteBuffer sourceRegion = source.duplicate();
+        sourceRegion.limit(sourceOffset + byteLength).position(sourceOffset);
+        final ByteBuffer targetRegion = target.duplicate();
+        targetRegion.limit(targetOffset + byteLength).position(targetOffset);
+        targetRegion.put(sourceRegion);
+    }
+
+    static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to release direct memory", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+import java.nio.ByteBuffer;
+
+public interface ElementCodec<T> {
+
+    int byteSize();
+
+    void write(ByteBuffer target, int offset, T element);
+
+    T read(ByteBuffer source, int offset);
+
+    ElementCodec<Integer> INTEGER = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer target, int offset, Integer element) {
+            target.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer source, int offset) {
+            return source.getInt(offset);
+        }
+    };
+
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer target, int offset, Long element) {
+            target.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer source, int offset) {
+            return source.getLong(offset);
+        }
+    };
+
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer target, int offset, Double element) {
+            target.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer source, int offset) {
+            return source.getDouble(offset);
+        }
+    };
+}
@@ -0,0 +1,71 @@
+public final class ElementIndexStats {
+
+    private final boolean upToDate;
+    private final int distinctElements;
+    private final int indexedPositions;
+    private final long estimatedBytes;
+    private final long rebuilds;
+    private final long rebuildNanos;
+    private final long incrementalUpdates;
+    private final long lookups;
+
+    ElementIndexStats(boolean upToDate, int distinctElements, int indexedPositions, long estimatedBytes,
+                      long rebuilds, long rebuildNanos, long incrementalUpdates, long lookups) {
+        this.upToDate = upToDate;
+        this.distinctElements = distinctElements;
+        this.indexedPositions = indexedPositions;
+        this.estimatedBytes = estimatedBytes;
+        this.rebuilds = rebuilds;
+        this.rebuildNanos = rebuildNanos;
+        this.incrementalUpdates = incrementalUpdates;
+        this.lookups = lookups;
+    }
+
+    // false when a bulk mutation or a positional one far from the end happened since the last rebuild,
+    // the next lookup rebuilds the index
+    public boolean isUpToDate() {
+        return upToDate;
+    }
+
+    public int getDistinctElements() {
+        return distinctElements;
+    }
+
+    public int getIndexedPositions() {
+        return indexedPositions;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public long getRebuilds() {
+        return rebuilds;
+    }
+
+    public long getRebuildNanos() {
+        return rebuildNanos;
+    }
+
+    public long getIncrementalUpdates() {
+        return incrementalUpdates;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementIndexStats{" +
+                "upToDate=" + upToDate +
+                ", distinctElements=" + distinctElements +
+                ", indexedPositions=" + indexedPositions +
+                ", estimatedBytes=" + estimatedBytes +
+                ", rebuilds=" + rebuilds +
+                ", rebuildNanos=" + rebuildNanos +
+                ", incrementalUpdates=" + incrementalUpdates +
+                ", lookups=" + lookups +
+                '}';
+    }
+}
@@ -0,0 +1,130 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// element -> ascending positions multimap used by CustomArrayList to answer indexOf/lastIndexOf in O(1) expected
+final class ElementPositionIndex {
+
+    // rough HotSpot footprint of a HashMap.Node, its table slot and a Positions holder with its int[] header
+    private static final long BYTES_PER_DISTINCT_ELEMENT = 32 + 8 + 24 + 16;
+    private final Map<Object, Positions> positionsByElement = new HashMap<>();
+    private int indexedPositions;
+    private long rebuilds;
+    private long rebuildNanos;
+    private long incrementalUpdates;
+    private long lookups;
+
+    void rebuild(Object[] elements, int size) {
+        final long startNanos = System.nanoTime();
+        positionsByElement.clear();
+        for (int i = 0; i < size; i++) {
+            positionsByElement.computeIfAbsent(elements[i], element -> new Positions()).append(i);
+        }
+        indexedPositions = size;
+        rebuilds++;
+        rebuildNanos += System.nanoTime() - startNanos;
+    }
+
+    void onAppend(Object element, int position) {
+        positionsByElement.computeIfAbsent(element, key -> new Positions()).append(position);
+        indexedPositions++;
+        incrementalUpdates++;
+    }
+
+    // 'elements' is already shifted left over 'position', every element behind it moves one position down;
+    // walking upwards keeps the positions of each element ascending while they are rewritten
+    void onRemove(Object element, int position, Object[] elements, int size) {
+        final Positions positions = positionsByElement.get(element);
+        positions.remove(position);
+        if (positions.count == 0) {
+            positionsByElement.remove(element);
+        }
+        for (int i = position; i < size; i++) {
+            positionsByElement.get(elements[i]).move(i + 1, i);
+        }
+        indexedPositions--;
+        incrementalUpdates++;
+    }
+
+    // 'elements' is already shifted right over 'position', every element behind it moves one position up
+    void onInsert(Object element, int position, Object[] elements, int size) {
+        for (int i = size - 1; i > position; i--) {
+            positionsByElement.get(elements[i]).move(i - 1, i);
+        }
+        positionsByElement.computeIfAbsent(element, key -> new Positions()).insert(position);
+        indexedPositions++;
+        incrementalUpdates++;
+    }
+
+    void onReplace(int position, Object previousElement, Object newElement) {
+        final Positions previousPositions = positionsByElement.get(previousElement);
+        previousPositions.remove(position);
+        if (previousPositions.count == 0) {
+            positionsByElement.remove(previousElement);
+        }
+        positionsByElement.computeIfAbsent(newElement, key -> new Positions()).insert(position);
+        incrementalUpdates++;
+    }
+
+    void clear() {
+        positionsByElement.clear();
+        indexedPositions = 0;
+        incrementalUpdates++;
+    }
+
+    int firstPositionOf(Object element) {
+        lookups++;
+        final Positions positions = positionsByElement.get(element);
+        return positions == null ? -1 : positions.values[0];
+    }
+
+    int lastPositionOf(Object element) {
+        lookups++;
+        final Positions positions = positionsByElement.get(element);
+        return positions == null ? -1 : positions.values[positions.count - 1];
+    }
+
+    ElementIndexStats stats(boolean upToDate) {
+        long positionBytes = 0;
+        for (Positions positions : positionsByElement.values()) {
+            positionBytes += (long) positions.values.length * Integer.BYTES;
+        }
+        final int distinctElements = positionsByElement.size();
+        return new ElementIndexStats(upToDate, distinctElements, indexedPositions,
+                                     distinctElements * BYTES_PER_DISTINCT_ELEMENT + positionBytes,
+                                     rebuilds, rebuildNanos, incrementalUpdates, lookups);
+    }
+
+    private static final class Positions {
+
+        private int[] values = new int[1];
+        private int count;
+
+        void append(int position) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = position;
+        }
+
+        void insert(int position) {
+            final int insertionPoint = -Arrays.binarySearch(values, 0, count, position) - 1;
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            System.arraycopy(values, insertionPoint, values, insertionPoint + 1, count - insertionPoint);
+            values[insertionPoint] = position;
+            count++;
+        }
+
+        void move(int previousPosition, int newPosition) {
+            values[Arrays.binarySearch(values, 0, count, previousPosition)] = newPosition;
+        }
+
+        void remove(int position) {
+            final int removalPoint = Arrays.binarySearch(values, 0, count, position);
+            System.arraycopy(values, removalPoint + 1, values, removalPoint, count - removalPoint - 1);
+            count--;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+// immutable list of exactly sized leaves, every field is final and leaves are never written after construction,
+// so instances are shared across threads without synchronization and derived lists share untouched leaves
+public final class FrozenCustomArrayList<T> extends AbstractList<T> implements RandomAccess {
+
+    static final int LEAF_SHIFT = 10;
+    static final int LEAF_SIZE = 1 << LEAF_SHIFT;
+    private static final FrozenCustomArrayList<?> EMPTY = new FrozenCustomArrayList<>(new Object[0][], new int[]{0}, true);
+
+    private final Object[][] leaves;
+    // leafOffsets[i] is the position of the first element of leaves[i], leafOffsets[leaves.length] is the size
+    private final int[] leafOffsets;
+    // true while every leaf except the last one holds LEAF_SIZE elements, positions are then resolved with a shift
+    private final boolean uniformLeaves;
+    private int hashCode;
+
+    private FrozenCustomArrayList(Object[][] leaves, int[] leafOffsets, boolean uniformLeaves) {
+        this.leaves = leaves;
+        this.leafOffsets = leafOffsets;
+        this.uniformLeaves = uniformLeaves;
+    }
+
+    public static <T> FrozenCustomArrayList<T> empty() {
+        return (FrozenCustomArrayList<T>) EMPTY;
+    }
+
+    static <T> FrozenCustomArrayList<T> copyOf(Object[] elements, int size) {
+        if (size == 0) {
+            return empty();
+        }
+        final int leafCount = ((size - 1) >>> LEAF_SHIFT) + 1;
+        final Object[][] leaves = new Object[leafCount][];
+        final int[] leafOffsets = new int[leafCount + 1];
+        for (int i = 0; i < leafCount; i++) {
+            final int leafStart = i << LEAF_SHIFT;
+            leaves[i] = Arrays.copyOfRange(elements, leafStart, Math.min(size, leafStart + LEAF_SIZE));
+            leafOffsets[i] = leafStart;
+        }
+        leafOffsets[leafCount] = size;
+        return new FrozenCustomArrayList<>(leaves, leafOffsets, true);
+    }
+
+    @Override
+    public int size() {
+        return leafOffsets[leaves.length];
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndexIsValidElseThrow(index);
+        if (uniformLeaves) {
+            return (T) leaves[index >>> LEAF_SHIFT][index & (LEAF_SIZE - 1)];
+        }
+        final int leafIndex = findLeaf(index);
+        return (T) leaves[leafIndex][index - leafOffsets[leafIndex]];
+    }
+
+    // copies the directory and the single leaf holding 'index', every other leaf is shared with this list
+    public FrozenCustomArrayList<T> withSet(int index, T element) {
+        checkIndexIsValidElseThrow(index);
+        final int leafIndex = findLeaf(index);
+        final Object[] leaf = leaves[leafIndex].clone();
+        leaf[index - leafOffsets[leafIndex]] = element;
+        final Object[][] newLeaves = leaves.clone();
+        newLeaves[leafIndex] = leaf;
+        return new FrozenCustomArrayList<>(newLeaves, leafOffsets, uniformLeaves);
+    }
+
+    public FrozenCustomArrayList<T> withAdded(T element) {
+        final int leafCount = leaves.length;
+        final int size = size();
+        if (leafCount > 0 && leaves[leafCount - 1].length < LEAF_SIZE) {
+            final Object[] lastLeaf = Arrays.copyOf(leaves[leafCount - 1], leaves[leafCount - 1].length + 1);
+            lastLeaf[lastLeaf.length - 1] = element;
+            final Object[][] newLeaves = leaves.clone();
+            newLeaves[leafCount - 1] = lastLeaf;
+            final int[] newLeafOffsets = leafOffsets.clone();
+            newLeafOffsets[leafCount] = size + 1;
+            return new FrozenCustomArrayList<>(newLeaves, newLeafOffsets, uniformLeaves);
+        }
+        final Object[][] newLeaves = Arrays.copyOf(leaves, leafCount + 1);
+        newLeaves[leafCount] = new Object[]{element};
+        final int[] newLeafOffsets = Arrays.copyOf(leafOffsets, leafCount + 2);
+        newLeafOffsets[leafCount + 1] = size + 1;
+        return new FrozenCustomArrayList<>(newLeaves, newLeafOffsets, uniformLeaves);
+    }
+
+    // only the leaf holding 'index' shrinks, so any removal except from the last leaf makes positions resolved by a search
+    public FrozenCustomArrayList<T> withRemoved(int index) {
+        checkIndexIsValidElseThrow(index);
+        final int leafCount = leaves.length;
+        final int leafIndex = findLeaf(index);
+        final Object[] leaf = leaves[leafIndex];
+        final boolean isLastLeaf = leafIndex == leafCount - 1;
+        final Object[][] newLeaves;
+        final int[] newLeafOffsets;
+        if (leaf.length == 1) {
+            newLeaves = new Object[leafCount - 1][];
+            System.arraycopy(leaves, 0, newLeaves, 0, leafIndex);
+            System.arraycopy(leaves, leafIndex + 1, newLeaves, leafIndex, leafCount - leafIndex - 1);
+            newLeafOffsets = new int[leafCount];
+            System.arraycopy(leafOffsets, 0, newLeafOffsets, 0, leafIndex);
+            for (int i = leafIndex; i < leafCount; i++) {
+                newLeafOffsets[i] = leafOffsets[i + 1] - 1;
+            }
+        } else {
+            final int positionInLeaf = index - leafOffsets[leafIndex];
+            final Object[] shrunkLeaf = new Object[leaf.length - 1];
+            System.arraycopy(leaf, 0, shrunkLeaf, 0, positionInLeaf);
+            System.arraycopy(leaf, positionInLeaf + 1, shrunkLeaf, positionInLeaf, leaf.length - positionInLeaf - 1);
+            newLeaves = leaves.clone();
+            newLeaves[leafIndex] = shrunkLeaf;
+            newLeafOffsets = leafOffsets.clone();
+            for (int i = leafIndex + 1; i <= leafCount; i++) {
+                newLeafOffsets[i]--;
+            }
+        }
+        return new FrozenCustomArrayList<>(newLeaves, newLeafOffsets, uniformLeaves && isLastLeaf);
+    }
+
+    public CustomArrayList<T> toCustomArrayList() {
+        final CustomArrayList<T> list = new CustomArrayList<>(size());
+        for (Object[] leaf : leaves) {
+            list.addAll(leaf, 0, leaf.length);
+        }
+        return list;
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Object[] elements = new Object[size()];
+        for (int i = 0; i < leaves.length; i++) {
+            System.arraycopy(leaves[i], 0, elements, leafOffsets[i], leaves[i].length);
+        }
+        return elements;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new LeafIterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        for (Object[] leaf : leaves) {
+            for (Object element : leaf) {
+                action.accept((T) element);
+            }
+        }
+    }
+
+    // racy single-check, like String#hashCode, recomputing on a race yields the same value
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = 1;
+            for (Object[] leaf : leaves) {
+                for (Object element : leaf) {
+                    result = 31 * result + Objects.hashCode(element);
+                }
+            }
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int findLeaf(int index) {
+        if (uniformLeaves) {
+            return index >>> LEAF_SHIFT;
+        }
+        final int searchResult = Arrays.binarySearch(leafOffsets, 0, leaves.length, index);
+        return searchResult >= 0 ? searchResult : -searchResult - 2;
+    }
+
+    private void checkIndexIsValidElseThrow(int index) {
+        if (index < 0 || size() <= index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size() - 1) + "]");
+    }
+
+    private class LeafIterator implements Iterator<T> {
+
+        int leafIndex;
+        int positionInLeaf;
+
+        @Override
+        public boolean hasNext() {
+            return leafIndex < leaves.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("next element is absent");
+            }
+            final Object[] leaf = leaves[leafIndex];
+            final T element = (T) leaf[positionInLeaf++];
+            if (positionInLeaf == leaf.length) {
+                leafIndex++;
+                positionInLeaf = 0;
+            }
+            return element;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// keeps the unused capacity as a gap at the position of the latest insertion or removal, so edits near
+// a moving cursor only move the elements between the old and the new cursor instead of the whole tail
+public class GapBufferCustomArrayList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 16;
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.doubling();
+    private final GrowthPolicy growthPolicy;
+    private Object[] sourceArray;
+    private int gapStart;
+    private int gapEnd;
+
+    public GapBufferCustomArrayList() {
+        this(DEFAULT_ALLOCATION_SIZE);
+    }
+
+    public GapBufferCustomArrayList(int size) {
+        this(size, DEFAULT_GROWTH_POLICY);
+    }
+
+    public GapBufferCustomArrayList(int size, GrowthPolicy growthPolicy) {
+        if (size < 0) throw new IllegalArgumentException("Size to bee expected as positive integer, but was " + size);
+        this.sourceArray = new Object[size];
+        this.gapStart = 0;
+        this.gapEnd = size;
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "'growthPolicy' should not be null");
+    }
+
+    @Override
+    public int size() {
+        return sourceArray.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndexIsValidElseThrow(index);
+        return (T) sourceArray[physicalIndexOf(index)];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkIndexIsValidElseThrow(index);
+        final int physicalIndex = physicalIndexOf(index);
+        final Object previousElement = sourceArray[physicalIndex];
+        sourceArray[physicalIndex] = element;
+        return (T) previousElement;
+    }
+
+    @Override
+    public boolean add(T elementToAdd) {
+        add(size(), elementToAdd);
+        return true;
+    }
+
+    @Override
+    public void add(int indexOfInsertion, T element) {
+        if (indexOfInsertion < 0 || size() < indexOfInsertion)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + size() + "]");
+        if (gapStart == gapEnd) {
+            increaseArraySize(sourceArray.length + 1, indexOfInsertion);
+        } else {
+            moveGapTo(indexOfInsertion);
+        }
+        sourceArray[gapStart++] = element;
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkIndexIsValidElseThrow(index);
+        moveGapTo(index);
+        final Object removedElement = sourceArray[gapEnd];
+        sourceArray[gapEnd++] = null;
+        modCount++;
+        return (T) removedElement;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(sourceArray, null);
+        gapStart = 0;
+        gapEnd = sourceArray.length;
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Object[] elements = new Object[size()];
+        copyRange(0, elements.length, elements, 0);
+        return elements;
+    }
+
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > sourceArray.length) {
+            increaseArraySize(minimumCapacity, gapStart);
+        }
+    }
+
+    int capacity() {
+        return sourceArray.length;
+    }
+
+    private int physicalIndexOf(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    private void moveGapTo(int index) {
+        if (index < gapStart) {
+            final int amountOfMovedElements = gapStart - index;
+            System.arraycopy(sourceArray, index, sourceArray, gapEnd - amountOfMovedElements, amountOfMovedElements);
+            Arrays.fill(sourceArray, index, Math.min(gapStart, gapEnd - amountOfMovedElements), null);
+            gapStart = index;
+            gapEnd -= amountOfMovedElements;
+        } else if (index > gapStart) {
+            final int amountOfMovedElements = index - gapStart;
+            System.arraycopy(sourceArray, gapEnd, sourceArray, gapStart, amountOfMovedElements);
+            Arrays.fill(sourceArray, Math.max(gapEnd, index), gapEnd + amountOfMovedElements, null);
+            gapStart = index;
+            gapEnd += amountOfMovedElements;
+        }
+    }
+
+    // the new gap is opened right at 'gapPosition', so growing and moving the gap cost a single copy
+    private void increaseArraySize(int minimumCapacity, int gapPosition) {
+        final int size = size();
+        final int newCapacity = Capacities.calculateNewCapacity(growthPolicy, sourceArray.length, minimumCapacity);
+        final Object[] newArrayOfElements = new Object[newCapacity];
+        final int amountOfTailElements = size - gapPosition;
+        copyRange(0, gapPosition, newArrayOfElements, 0);
+        copyRange(gapPosition, size, newArrayOfElements, newCapacity - amountOfTailElements);
+        sourceArray = newArrayOfElements;
+        gapStart = gapPosition;
+        gapEnd = newCapacity - amountOfTailElements;
+    }
+
+    private void copyRange(int fromIndex, int toIndex, Object[] target, int targetOffset) {
+        final int amountBeforeGap = Math.max(0, Math.min(toIndex, gapStart) - fromIndex);
+        System.arraycopy(sourceArray, fromIndex, target, targetOffset, amountBeforeGap);
+        final int firstIndexAfterGap = fromIndex + amountBeforeGap;
+        System.arraycopy(sourceArray, physicalIndexOf(firstIndexAfterGap), target, targetOffset + amountBeforeGap, toIndex - firstIndexAfterGap);
+    }
+
+    private void checkIndexIsValidElseThrow(int index) {
+        if (index < 0 || size() <= index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size() - 1) + "]");
+    }
+}
@@ -0,0 +1,35 @@
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * @param currentCapacity length of the backing array which has to be replaced
+     * @param minimumCapacity amount of cells the new backing array must at least hold
+     * @return capacity of the new backing array, values below 'minimumCapacity' are raised to it by the list
+     */
+    int calculateNewCapacity(int currentCapacity, int minimumCapacity);
+
+    static GrowthPolicy geometric(double growthFactor) {
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor to be expected greater than 1.0, but was " + growthFactor);
+        }
+        return (currentCapacity, minimumCapacity) -> {
+            final long grownCapacity = (long) (currentCapacity * growthFactor);
+            return (int) Math.min(Math.max(grownCapacity, (long) currentCapacity + 1), Integer.MAX_VALUE);
+        };
+    }
+
+    static GrowthPolicy oneAndHalf() {
+        return geometric(1.5);
+    }
+
+    static GrowthPolicy doubling() {
+        return geometric(2.0);
+    }
+
+    static GrowthPolicy fixedChunk(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size to be expected as positive integer, but was " + chunkSize);
+        }
+        return (currentCapacity, minimumCapacity) -> (int) Math.min((long) currentCapacity + chunkSize, Integer.MAX_VALUE);
+    }
+}
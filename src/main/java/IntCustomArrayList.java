@@ -0,0 +1,369 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+public class IntCustomArrayList {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 16;
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.oneAndHalf();
+    private int[] sourceArray;
+    private int size;
+    private int modCount;
+    private BoxedView boxedView;
+    private final GrowthPolicy growthPolicy;
+
+    public IntCustomArrayList(int[] sourceArray) {
+        this.sourceArray = sourceArray;
+        this.size = sourceArray.length;
+        this.growthPolicy = DEFAULT_GROWTH_POLICY;
+    }
+
+    public IntCustomArrayList() {
+        this(DEFAULT_GROWTH_POLICY);
+    }
+
+    public IntCustomArrayList(int size) {
+        this(size, DEFAULT_GROWTH_POLICY);
+    }
+
+    public IntCustomArrayList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_ALLOCATION_SIZE, growthPolicy);
+    }
+
+    public IntCustomArrayList(int size, GrowthPolicy growthPolicy) {
+        if (size < 0) throw new IllegalArgumentException("Size to bee expected as positive integer, but was " + size);
+        this.sourceArray = new int[size];
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "'growthPolicy' should not be null");
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getInt(int index) {
+        checkIndexIsValidElseThrow(index);
+        return sourceArray[index];
+    }
+
+    public int setInt(int index, int element) {
+        checkIndexIsValidElseThrow(index);
+        final int previousElement = sourceArray[index];
+        sourceArray[index] = element;
+        return previousElement;
+    }
+
+    public boolean addInt(int elementToAdd) {
+        if (size == sourceArray.length) {
+            increaseArraySize(size + 1);
+        }
+        sourceArray[size++] = elementToAdd;
+        incrementModCount();
+        return true;
+    }
+
+    public void addInt(int indexOfInsertion, int element) {
+        checkPositionIsValidElseThrow(indexOfInsertion);
+        if (size == sourceArray.length) {
+            increaseArraySize(size + 1);
+        }
+        System.arraycopy(sourceArray, indexOfInsertion, sourceArray, indexOfInsertion + 1, size - indexOfInsertion);
+        sourceArray[indexOfInsertion] = element;
+        size++;
+        incrementModCount();
+    }
+
+    public boolean addAll(int[] elements) {
+        return addAll(size, elements);
+    }
+
+    public boolean addAll(int startIndex, int[] elements) {
+        checkPositionIsValidElseThrow(startIndex);
+        ensureCapacity(size + elements.length);
+        System.arraycopy(sourceArray, startIndex, sourceArray, startIndex + elements.length, size - startIndex);
+        System.arraycopy(elements, 0, sourceArray, startIndex, elements.length);
+        size += elements.length;
+        incrementModCount();
+        return elements.length != 0;
+    }
+
+    public boolean addAll(IntCustomArrayList elements) {
+        return addAll(size, elements.toIntArray());
+    }
+
+    public int removeIntAt(int index) {
+        checkIndexIsValidElseThrow(index);
+        final int removedElement = sourceArray[index];
+        System.arraycopy(sourceArray, index + 1, sourceArray, index, size - index - 1);
+        size--;
+        incrementModCount();
+        return removedElement;
+    }
+
+    public boolean removeInt(int element) {
+        final int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        removeIntAt(index);
+        return true;
+    }
+
+    public boolean removeIf(IntPredicate filter) {
+        Objects.requireNonNull(filter);
+        final int expectedModCount = modCount;
+        final int[] elements = sourceArray;
+        final int previousSize = size;
+        int indexToRead = 0;
+        int indexToWrite = 0;
+        try {
+            for (; indexToRead < previousSize; indexToRead++) {
+                final int element = elements[indexToRead];
+                if (!filter.test(element)) {
+                    elements[indexToWrite++] = element;
+                }
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // keeps the list consistent when the filter throws half way through
+            if (indexToRead < previousSize) {
+                System.arraycopy(elements, indexToRead, elements, indexToWrite, previousSize - indexToRead);
+                indexToWrite += previousSize - indexToRead;
+            }
+            if (indexToWrite != previousSize) {
+                size = indexToWrite;
+                incrementModCount();
+            }
+        }
+        return indexToWrite != previousSize;
+    }
+
+    public boolean removeAll(IntCustomArrayList elements) {
+        return removeIf(elements::contains);
+    }
+
+    public boolean retainAll(IntCustomArrayList elements) {
+        return removeIf(element -> !elements.contains(element));
+    }
+
+    public boolean contains(int element) {
+        return indexOf(element) >= 0;
+    }
+
+    public int indexOf(int element) {
+        return PrimitiveScanKernels.indexOf(sourceArray, 0, size, element);
+    }
+
+    public int lastIndexOf(int element) {
+        return PrimitiveScanKernels.lastIndexOf(sourceArray, 0, size, element);
+    }
+
+    public int count(IntPredicate predicate) {
+        return PrimitiveScanKernels.count(sourceArray, 0, size, predicate);
+    }
+
+    public long sum() {
+        return PrimitiveScanKernels.sum(sourceArray, 0, size);
+    }
+
+    public int min() {
+        return PrimitiveScanKernels.min(sourceArray, 0, size);
+    }
+
+    public int max() {
+        return PrimitiveScanKernels.max(sourceArray, 0, size);
+    }
+
+    public boolean rangeEquals(int fromIndex, IntCustomArrayList other, int otherFromIndex, int length) {
+        if (length < 0 || fromIndex < 0 || otherFromIndex < 0 || fromIndex + length > size || otherFromIndex + length > other.size)
+            throw new IndexOutOfBoundsException("passed ranges of length " + length + " are out of bounds");
+        return PrimitiveScanKernels.rangeEquals(sourceArray, fromIndex, other.sourceArray, otherFromIndex, length);
+    }
+
+    public void clear() {
+        size = 0;
+        incrementModCount();
+    }
+
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > sourceArray.length) {
+            increaseArraySize(minimumCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < sourceArray.length) {
+            sourceArray = Arrays.copyOf(sourceArray, size);
+        }
+    }
+
+    private void increaseArraySize(int minimumCapacity) {
+        sourceArray = Arrays.copyOf(sourceArray, Capacities.calculateNewCapacity(growthPolicy, sourceArray.length, minimumCapacity));
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(sourceArray, size);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(sourceArray, 0, size);
+    }
+
+    public void forEachInt(IntConsumer action) {
+        final int expectedModCount = modCount;
+        for (int i = 0; i < size && expectedModCount == modCount; i++) {
+            action.accept(sourceArray[i]);
+        }
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntIterator();
+    }
+
+    public List<Integer> asList() {
+        if (boxedView == null) {
+            boxedView = new BoxedView();
+        }
+        return boxedView;
+    }
+
+    private void incrementModCount() {
+        modCount++;
+        if (boxedView != null) {
+            boxedView.syncModCount();
+        }
+    }
+
+    private void checkIndexIsValidElseThrow(int index) {
+        if (index < 0 || size <= index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
+    }
+
+    private void checkPositionIsValidElseThrow(int index) {
+        if (index < 0 || size < index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + size + "]");
+    }
+
+    private class IntIterator implements PrimitiveIterator.OfInt {
+
+        private int currentPosition = -1;
+        private int expectedModCount = modCount;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext() {
+            return currentPosition + 1 < size;
+        }
+
+        @Override
+        public int nextInt() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("next element is absent");
+            }
+            canRemove = true;
+            return sourceArray[++currentPosition];
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException("'next' method has not been called yet");
+            checkForComodification();
+            removeIntAt(currentPosition--);
+            expectedModCount = modCount;
+            canRemove = false;
+        }
+
+        private void checkForComodification() {
+            if (expectedModCount != modCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    // mirrors the counter of the list, so the iterators and subLists inherited from AbstractList fail fast
+    private class BoxedView extends AbstractList<Integer> implements RandomAccess {
+
+        void syncModCount() {
+            modCount = IntCustomArrayList.this.modCount;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return getInt(index);
+        }
+
+        @Override
+        public Integer set(int index, Integer element) {
+            return setInt(index, element);
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            addInt(index, element);
+        }
+
+        @Override
+        public Integer remove(int index) {
+            return removeIntAt(index);
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return object instanceof Integer && IntCustomArrayList.this.contains((Integer) object);
+        }
+
+        @Override
+        public int indexOf(Object object) {
+            return object instanceof Integer ? IntCustomArrayList.this.indexOf((Integer) object) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object object) {
+            return object instanceof Integer ? IntCustomArrayList.this.lastIndexOf((Integer) object) : -1;
+        }
+
+        @Override
+        public void clear() {
+            IntCustomArrayList.this.clear();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IntCustomArrayList that = (IntCustomArrayList) o;
+        return size == that.size &&
+                PrimitiveScanKernels.rangeEquals(sourceArray, 0, that.sourceArray, 0, size);
+    }
+
+    // consistent with List.hashCode() of the boxed view
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Integer.hashCode(sourceArray[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// read-only view over a file written by CustomArrayListFiles, created through CustomArrayListFiles.map;
+// every segment maps 1 << segmentShift records, except the last one
+public class MappedCustomArrayList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+
+    private final ElementCodec<T> codec;
+    private final int elementByteSize;
+    private final int size;
+    private final int segmentShift;
+    private ByteBuffer[] segments;
+
+    MappedCustomArrayList(ByteBuffer[] segments, int segmentShift, ElementCodec<T> codec, int size) {
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.codec = codec;
+        this.elementByteSize = codec.byteSize();
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        checkIsOpenElseThrow();
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIsOpenElseThrow();
+        if (index < 0 || size <= index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
+        return read(index);
+    }
+
+    public CustomArrayList<T> toCustomArrayList() {
+        checkIsOpenElseThrow();
+        final CustomArrayList<T> list = new CustomArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(read(i));
+        }
+        return list;
+    }
+
+    public boolean isClosed() {
+        return segments == null;
+    }
+
+    // unmaps the file eagerly, so the view must not be used concurrently with close()
+    @Override
+    public void close() {
+        if (segments != null) {
+            for (ByteBuffer segment : segments) {
+                DirectMemory.release(segment);
+            }
+            segments = null;
+        }
+    }
+
+    private T read(int index) {
+        return codec.read(segments[index >>> segmentShift], (index & ((1 << segmentShift) - 1)) * elementByteSize);
+    }
+
+    private void checkIsOpenElseThrow() {
+        if (segments == null) throw new IllegalStateException("view has already been closed");
+    }
+}
@@ -0,0 +1,120 @@
+import java.util.Arrays;
+
+// positional edits are recorded against the indexes the list had when the batch was created and are applied
+// together; several inserts at one index keep their recording order and land before the element at that index
+public final class MutationBatch<T> {
+
+    static final byte INSERT = 0;
+    static final byte REMOVE = 1;
+    static final byte SET = 2;
+    private static final int DEFAULT_ALLOCATION_SIZE = 16;
+    private static final GrowthPolicy GROWTH_POLICY = GrowthPolicy.doubling();
+
+    private final CustomArrayList<T> list;
+    private final int originalSize;
+    final int expectedModCount;
+    private int[] indexes = new int[DEFAULT_ALLOCATION_SIZE];
+    private byte[] kinds = new byte[DEFAULT_ALLOCATION_SIZE];
+    private Object[] elements = new Object[DEFAULT_ALLOCATION_SIZE];
+    int editCount;
+    int insertCount;
+    int removeCount;
+    private boolean applied;
+
+    // filled in by apply(), ordered by original index with inserts ahead of the remove or set of the same index
+    int[] sortedIndexes;
+    byte[] sortedKinds;
+    Object[] sortedElements;
+
+    MutationBatch(CustomArrayList<T> list, int originalSize, int expectedModCount) {
+        this.list = list;
+        this.originalSize = originalSize;
+        this.expectedModCount = expectedModCount;
+    }
+
+    public MutationBatch<T> insert(int originalIndex, T element) {
+        if (originalIndex < 0 || originalSize < originalIndex)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + originalSize + "]");
+        record(originalIndex, INSERT, element);
+        insertCount++;
+        return this;
+    }
+
+    public MutationBatch<T> remove(int originalIndex) {
+        checkOriginalIndexIsValidElseThrow(originalIndex);
+        record(originalIndex, REMOVE, null);
+        removeCount++;
+        return this;
+    }
+
+    // the last set of an index wins
+    public MutationBatch<T> set(int originalIndex, T element) {
+        checkOriginalIndexIsValidElseThrow(originalIndex);
+        record(originalIndex, SET, element);
+        return this;
+    }
+
+    public int editCount() {
+        return editCount;
+    }
+
+    boolean belongsTo(CustomArrayList<?> list) {
+        return this.list == list;
+    }
+
+    // the list is left untouched when the batch conflicts with itself or the list was structurally modified meanwhile
+    public void apply() {
+        checkIsNotAppliedElseThrow();
+        sortEdits();
+        list.applyMutationBatch(this);
+        applied = true;
+        elements = null;
+        sortedElements = null;
+    }
+
+    private void record(int originalIndex, byte kind, T element) {
+        checkIsNotAppliedElseThrow();
+        if (editCount == indexes.length) {
+            final int newLength = Capacities.calculateNewCapacity(GROWTH_POLICY, editCount, editCount + 1);
+            indexes = Arrays.copyOf(indexes, newLength);
+            kinds = Arrays.copyOf(kinds, newLength);
+            elements = Arrays.copyOf(elements, newLength);
+        }
+        indexes[editCount] = originalIndex;
+        kinds[editCount] = kind;
+        elements[editCount] = element;
+        editCount++;
+    }
+
+    // the key orders by index, then inserts before other edits, then by recording order
+    private void sortEdits() {
+        final long[] keys = new long[editCount];
+        for (int i = 0; i < editCount; i++) {
+            final long rank = kinds[i] == INSERT ? 0 : 1;
+            keys[i] = ((long) indexes[i] << 32) | (rank << 31) | i;
+        }
+        Arrays.sort(keys);
+        sortedIndexes = new int[editCount];
+        sortedKinds = new byte[editCount];
+        sortedElements = new Object[editCount];
+        for (int i = 0; i < editCount; i++) {
+            final int recordPosition = (int) (keys[i] & Integer.MAX_VALUE);
+            sortedIndexes[i] = indexes[recordPosition];
+            sortedKinds[i] = kinds[recordPosition];
+            sortedElements[i] = elements[recordPosition];
+            if (i > 0 && sortedIndexes[i] == sortedIndexes[i - 1] && sortedKinds[i] != INSERT && sortedKinds[i - 1] != INSERT
+                    && (sortedKinds[i] == REMOVE || sortedKinds[i - 1] == REMOVE)) {
+                throw new IllegalStateException("element at original index " + sortedIndexes[i] + " has conflicting remove and set edits");
+            }
+        }
+    }
+
+    private void checkOriginalIndexIsValidElseThrow(int originalIndex) {
+        if (originalIndex < 0 || originalSize <= originalIndex)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (originalSize - 1) + "]");
+    }
+
+    private void checkIsNotAppliedElseThrow() {
+        if (applied) throw new IllegalStateException("batch has already been applied");
+    }
+}
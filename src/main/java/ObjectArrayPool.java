@@ -0,0 +1,106 @@
+import java.util.concurrent.atomic.LongAdder;
+
+// arrays are cached per thread in power of two capacity buckets, so acquire and release never contend on a lock;
+// an array released on another thread than it was acquired on simply joins the cache of the releasing thread
+public final class ObjectArrayPool {
+
+    private static final int MINIMUM_POOLED_CAPACITY_SHIFT = 4;
+    private static final int MINIMUM_POOLED_CAPACITY = 1 << MINIMUM_POOLED_CAPACITY_SHIFT;
+    private static final ObjectArrayPool SHARED = new ObjectArrayPool(4, 1 << 14);
+
+    private final int maximumArraysPerBucket;
+    private final int maximumPooledCapacity;
+    private final int bucketCount;
+    private final ThreadLocal<ThreadCache> threadCache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    public ObjectArrayPool(int maximumArraysPerBucket, int maximumPooledCapacity) {
+        if (maximumArraysPerBucket <= 0) {
+            throw new IllegalArgumentException("Arrays per bucket to be expected as positive integer, but was " + maximumArraysPerBucket);
+        }
+        if (maximumPooledCapacity < MINIMUM_POOLED_CAPACITY || Integer.bitCount(maximumPooledCapacity) != 1) {
+            throw new IllegalArgumentException("Maximum pooled capacity to be expected as power of two not less than "
+                                               + MINIMUM_POOLED_CAPACITY + ", but was " + maximumPooledCapacity);
+        }
+        this.maximumArraysPerBucket = maximumArraysPerBucket;
+        this.maximumPooledCapacity = maximumPooledCapacity;
+        this.bucketCount = Integer.numberOfTrailingZeros(maximumPooledCapacity) - MINIMUM_POOLED_CAPACITY_SHIFT + 1;
+        this.threadCache = ThreadLocal.withInitial(() -> new ThreadCache(bucketCount, maximumArraysPerBucket));
+    }
+
+    public static ObjectArrayPool shared() {
+        return SHARED;
+    }
+
+    // the returned array holds only nulls and is at least 'minimumCapacity' long, pooled capacities are powers of two
+    public Object[] acquire(int minimumCapacity) {
+        if (minimumCapacity < 0) throw new IllegalArgumentException("Capacity to be expected as positive integer, but was " + minimumCapacity);
+        if (minimumCapacity > maximumPooledCapacity) {
+            misses.increment();
+            return new Object[minimumCapacity];
+        }
+        final int bucketIndex = bucketIndexOf(minimumCapacity);
+        final ThreadCache cache = threadCache.get();
+        final int pooledArrays = cache.counts[bucketIndex];
+        if (pooledArrays == 0) {
+            misses.increment();
+            return new Object[MINIMUM_POOLED_CAPACITY << bucketIndex];
+        }
+        final Object[][] bucket = cache.buckets[bucketIndex];
+        final Object[] array = bucket[pooledArrays - 1];
+        bucket[pooledArrays - 1] = null;
+        cache.counts[bucketIndex] = pooledArrays - 1;
+        hits.increment();
+        return array;
+    }
+
+    // the caller must not touch 'array' afterwards and must have nulled every slot it has written
+    public boolean release(Object[] array) {
+        final int capacity = array.length;
+        if (capacity < MINIMUM_POOLED_CAPACITY || capacity > maximumPooledCapacity || Integer.bitCount(capacity) != 1) {
+            discards.increment();
+            return false;
+        }
+        final int bucketIndex = Integer.numberOfTrailingZeros(capacity) - MINIMUM_POOLED_CAPACITY_SHIFT;
+        final ThreadCache cache = threadCache.get();
+        final int pooledArrays = cache.counts[bucketIndex];
+        if (pooledArrays == maximumArraysPerBucket) {
+            discards.increment();
+            return false;
+        }
+        cache.buckets[bucketIndex][pooledArrays] = array;
+        cache.counts[bucketIndex] = pooledArrays + 1;
+        releases.increment();
+        return true;
+    }
+
+    // length of the array acquire(minimumCapacity) returns
+    int acquiredCapacityOf(int minimumCapacity) {
+        return minimumCapacity > maximumPooledCapacity ? minimumCapacity : MINIMUM_POOLED_CAPACITY << bucketIndexOf(minimumCapacity);
+    }
+
+    public ArrayPoolStats stats() {
+        return new ArrayPoolStats(hits.sum(), misses.sum(), releases.sum(), discards.sum());
+    }
+
+    private static int bucketIndexOf(int minimumCapacity) {
+        if (minimumCapacity <= MINIMUM_POOLED_CAPACITY) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(minimumCapacity - 1) - MINIMUM_POOLED_CAPACITY_SHIFT;
+    }
+
+    private static final class ThreadCache {
+
+        final Object[][][] buckets;
+        final int[] counts;
+
+        ThreadCache(int bucketCount, int maximumArraysPerBucket) {
+            this.buckets = new Object[bucketCount][maximumArraysPerBucket][];
+            this.counts = new int[bucketCount];
+        }
+    }
+}
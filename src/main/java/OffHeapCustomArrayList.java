@@ -0,0 +1,219 @@
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// a direct ByteBuffer is int addressed and ends at 2 GiB, so elements live in segments of at most SEGMENT_BYTE_SIZE
+// and the list holds up to Capacities.MAX_ARRAY_SIZE elements whatever their byte size; while the list fits a single
+// segment that segment grows by the growth policy, beyond it whole segments are appended and nothing is copied
+public class OffHeapCustomArrayList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 16;
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.oneAndHalf();
+    private static final int SEGMENT_BYTE_SIZE = 1 << 30;
+    private final ElementCodec<T> codec;
+    private final int elementByteSize;
+    private final GrowthPolicy growthPolicy;
+    // every segment holds 1 << segmentShift elements, except a single first segment which has not grown to it yet
+    private final int segmentShift;
+    private final int elementsPerSegment;
+    private ByteBuffer[] segments;
+    private int size;
+
+    public OffHeapCustomArrayList(ElementCodec<T> codec) {
+        this(codec, DEFAULT_ALLOCATION_SIZE);
+    }
+
+    public OffHeapCustomArrayList(ElementCodec<T> codec, int size) {
+        this(codec, size, DEFAULT_GROWTH_POLICY);
+    }
+
+    public OffHeapCustomArrayList(ElementCodec<T> codec, int size, GrowthPolicy growthPolicy) {
+        this(codec, size, growthPolicy, SEGMENT_BYTE_SIZE);
+    }
+
+    OffHeapCustomArrayList(ElementCodec<T> codec, int size, GrowthPolicy growthPolicy, int segmentByteSize) {
+        if (size < 0) throw new IllegalArgumentException("Size to bee expected as positive integer, but was " + size);
+        if (size > Capacities.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required capacity " + size + " exceeds " + Capacities.MAX_ARRAY_SIZE + " elements");
+        }
+        this.codec = Objects.requireNonNull(codec, "'codec' should not be null");
+        this.elementByteSize = codec.byteSize();
+        if (elementByteSize <= 0) {
+            throw new IllegalArgumentException("Codec byte size to be expected as positive integer, but was " + elementByteSize);
+        }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "'growthPolicy' should not be null");
+        this.segmentShift = 31 - Integer.numberOfLeadingZeros(Math.max(1, segmentByteSize / elementByteSize));
+        this.elementsPerSegment = 1 << segmentShift;
+        if (size <= elementsPerSegment) {
+            this.segments = new ByteBuffer[]{DirectMemory.allocate(size * elementByteSize)};
+        } else {
+            this.segments = new ByteBuffer[0];
+            appendSegments(size);
+        }
+    }
+
+    @Override
+    public int size() {
+        checkIsOpenElseThrow();
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIsOpenElseThrow();
+        checkIndexIsValidElseThrow(index);
+        return codec.read(segmentOf(index), offsetOf(index));
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkIsOpenElseThrow();
+        checkIndexIsValidElseThrow(index);
+        final ByteBuffer segment = segmentOf(index);
+        final T previousElement = codec.read(segment, offsetOf(index));
+        codec.write(segment, offsetOf(index), element);
+        return previousElement;
+    }
+
+    @Override
+    public boolean add(T elementToAdd) {
+        checkIsOpenElseThrow();
+        ensureCapacity(size + 1);
+        codec.write(segmentOf(size), offsetOf(size), elementToAdd);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int indexOfInsertion, T element) {
+        checkIsOpenElseThrow();
+        if (indexOfInsertion < 0 || size < indexOfInsertion)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + size + "]");
+        ensureCapacity(size + 1);
+        moveElements(indexOfInsertion, indexOfInsertion + 1, size - indexOfInsertion);
+        codec.write(segmentOf(indexOfInsertion), offsetOf(indexOfInsertion), element);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkIsOpenElseThrow();
+        checkIndexIsValidElseThrow(index);
+        final T removedElement = codec.read(segmentOf(index), offsetOf(index));
+        moveElements(index + 1, index, size - index - 1);
+        size--;
+        modCount++;
+        return removedElement;
+    }
+
+    @Override
+    public void clear() {
+        checkIsOpenElseThrow();
+        size = 0;
+        modCount++;
+    }
+
+    public void ensureCapacity(int minimumCapacity) {
+        checkIsOpenElseThrow();
+        if (minimumCapacity <= capacity()) {
+            return;
+        }
+        if (minimumCapacity < 0 || minimumCapacity > Capacities.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required capacity " + Integer.toUnsignedString(minimumCapacity) + " exceeds "
+                                       + Capacities.MAX_ARRAY_SIZE + " elements");
+        }
+        if (segments.length == 1 && segments[0].capacity() < elementsPerSegment * elementByteSize) {
+            final int currentCapacity = segments[0].capacity() / elementByteSize;
+            final int grownCapacity = Math.min(Capacities.calculateNewCapacity(growthPolicy, currentCapacity, minimumCapacity),
+                                               elementsPerSegment);
+            final ByteBuffer grownSegment = DirectMemory.allocate(grownCapacity * elementByteSize);
+            DirectMemory.copy(segments[0], 0, grownSegment, 0, size * elementByteSize);
+            DirectMemory.release(segments[0]);
+            segments[0] = grownSegment;
+            if (grownCapacity >= minimumCapacity) {
+                return;
+            }
+        }
+        appendSegments(minimumCapacity);
+    }
+
+    public int capacity() {
+        checkIsOpenElseThrow();
+        if (segments.length == 1) {
+            return segments[0].capacity() / elementByteSize;
+        }
+        return (int) Math.min((long) segments.length << segmentShift, Capacities.MAX_ARRAY_SIZE);
+    }
+
+    public boolean isClosed() {
+        return segments == null;
+    }
+
+    // native memory is freed eagerly, so the list must not be used concurrently with close()
+    @Override
+    public void close() {
+        if (segments != null) {
+            for (ByteBuffer segment : segments) {
+                DirectMemory.release(segment);
+            }
+            segments = null;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    private void appendSegments(int minimumCapacity) {
+        final int segmentCount = (int) (((long) minimumCapacity + elementsPerSegment - 1) >>> segmentShift);
+        final int previousSegmentCount = segments.length;
+        segments = Arrays.copyOf(segments, segmentCount);
+        for (int i = previousSegmentCount; i < segmentCount; i++) {
+            segments[i] = DirectMemory.allocate(elementsPerSegment * elementByteSize);
+        }
+    }
+
+    private ByteBuffer segmentOf(int index) {
+        return segments[index >>> segmentShift];
+    }
+
+    private int offsetOf(int index) {
+        return (index & (elementsPerSegment - 1)) * elementByteSize;
+    }
+
+    // copies piecewise so that no piece crosses a segment boundary on either side; a shift to the right runs
+    // from the end, so every piece is read before it is overwritten, and a piece within one segment is memmove-safe
+    private void moveElements(int sourceIndex, int targetIndex, int count) {
+        if (sourceIndex > targetIndex) {
+            for (int moved = 0; moved < count; ) {
+                final int source = sourceIndex + moved;
+                final int target = targetIndex + moved;
+                final int piece = Math.min(count - moved, elementsPerSegment - Math.max(source & (elementsPerSegment - 1),
+                                                                                         target & (elementsPerSegment - 1)));
+                DirectMemory.copy(segmentOf(source), offsetOf(source), segmentOf(target), offsetOf(target), piece * elementByteSize);
+                moved += piece;
+            }
+        } else {
+            for (int remaining = count; remaining > 0; ) {
+                final int sourceEnd = sourceIndex + remaining;
+                final int targetEnd = targetIndex + remaining;
+                final int piece = Math.min(remaining, 1 + Math.min((sourceEnd - 1) & (elementsPerSegment - 1),
+                                                                   (targetEnd - 1) & (elementsPerSegment - 1)));
+                DirectMemory.copy(segmentOf(sourceEnd - piece), offsetOf(sourceEnd - piece),
+                                  segmentOf(targetEnd - piece), offsetOf(targetEnd - piece), piece * elementByteSize);
+                remaining -= piece;
+            }
+        }
+    }
+
+    private void checkIsOpenElseThrow() {
+        if (segments == null) throw new IllegalStateException("list has already been closed");
+    }
+
+    private void checkIndexIsValidElseThrow(int index) {
+        if (index < 0 || size <= index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
+    }
+}
@@ -0,0 +1,23 @@
+// intended for try-with-resources: the backing array goes back to the pool on close,
+// afterwards the list keeps working as an empty, unpooled list
+public class PooledCustomArrayList<T> extends CustomArrayList<T> implements AutoCloseable {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 16;
+
+    public PooledCustomArrayList() {
+        this(DEFAULT_ALLOCATION_SIZE);
+    }
+
+    public PooledCustomArrayList(int size) {
+        this(size, ObjectArrayPool.shared());
+    }
+
+    public PooledCustomArrayList(int size, ObjectArrayPool arrayPool) {
+        super(size, arrayPool);
+    }
+
+    @Override
+    public void close() {
+        releaseBackingArray();
+    }
+}
@@ -0,0 +1,777 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+// scan kernels over [fromIndex, toIndex) of primitive arrays, ranges of PARALLEL_THRESHOLD elements and more
+// are split in halves on the common fork/join pool.
+// The project targets Java 11, so there is no jdk.incubator.vector: the loops are kept in the simple counted form
+// HotSpot's superword pass vectorizes on its own, and range equality goes through the vectorizedMismatch intrinsic.
+public final class PrimitiveScanKernels {
+
+    static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    private PrimitiveScanKernels() {
+    }
+
+    public static int indexOf(int[] elements, int fromIndex, int toIndex, int value) {
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new IntIndexOfTask(elements, fromIndex, toIndex, value));
+        }
+        return sequentialIndexOf(elements, fromIndex, toIndex, value);
+    }
+
+    static int sequentialIndexOf(int[] elements, int fromIndex, int toIndex, int value) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int lastIndexOf(int[] elements, int fromIndex, int toIndex, int value) {
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int count(int[] elements, int fromIndex, int toIndex, IntPredicate predicate) {
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new IntCountTask(elements, fromIndex, toIndex, predicate));
+        }
+        return sequentialCount(elements, fromIndex, toIndex, predicate);
+    }
+
+    static int sequentialCount(int[] elements, int fromIndex, int toIndex, IntPredicate predicate) {
+        int matches = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (predicate.test(elements[i])) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    public static long sum(int[] elements, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new IntSumTask(elements, fromIndex, toIndex));
+        }
+        return sequentialSum(elements, fromIndex, toIndex);
+    }
+
+    static long sequentialSum(int[] elements, int fromIndex, int toIndex) {
+        long sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    public static int min(int[] elements, int fromIndex, int toIndex) {
+        checkRangeIsNotEmptyElseThrow(fromIndex, toIndex);
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new IntExtremumTask(elements, fromIndex, toIndex, false));
+        }
+        return sequentialMin(elements, fromIndex, toIndex);
+    }
+
+    // plain counted loops without early exits are the shape C2 turns into SIMD reductions
+    static int sequentialMin(int[] elements, int fromIndex, int toIndex) {
+        int min = Integer.MAX_VALUE;
+        for (int i = fromIndex; i < toIndex; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return min;
+    }
+
+    public static int max(int[] elements, int fromIndex, int toIndex) {
+        checkRangeIsNotEmptyElseThrow(fromIndex, toIndex);
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new IntExtremumTask(elements, fromIndex, toIndex, true));
+        }
+        return sequentialMax(elements, fromIndex, toIndex);
+    }
+
+    static int sequentialMax(int[] elements, int fromIndex, int toIndex) {
+        int max = Integer.MIN_VALUE;
+        for (int i = fromIndex; i < toIndex; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    // Arrays.equals on ranges is backed by the vectorizedMismatch intrinsic, which compares whole SIMD registers
+    public static boolean rangeEquals(int[] elements, int fromIndex, int[] otherElements, int otherFromIndex, int length) {
+        if (length >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new IntRangeEqualsTask(elements, fromIndex, otherElements, otherFromIndex, length));
+        }
+        return Arrays.equals(elements, fromIndex, fromIndex + length, otherElements, otherFromIndex, otherFromIndex + length);
+    }
+
+    private static final class IntIndexOfTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final int[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int value;
+
+        IntIndexOfTask(int[] elements, int fromIndex, int toIndex, int value) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.value = value;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialIndexOf(elements, fromIndex, toIndex, value);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final IntIndexOfTask rightHalf = new IntIndexOfTask(elements, middle, toIndex, value);
+            rightHalf.fork();
+            final int leftIndex = new IntIndexOfTask(elements, fromIndex, middle, value).compute();
+            if (leftIndex >= 0) {
+                rightHalf.cancel(false);
+                return leftIndex;
+            }
+            return rightHalf.join();
+        }
+    }
+
+    private static final class IntCountTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final int[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final IntPredicate predicate;
+
+        IntCountTask(int[] elements, int fromIndex, int toIndex, IntPredicate predicate) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialCount(elements, fromIndex, toIndex, predicate);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final IntCountTask rightHalf = new IntCountTask(elements, middle, toIndex, predicate);
+            rightHalf.fork();
+            return new IntCountTask(elements, fromIndex, middle, predicate).compute() + rightHalf.join();
+        }
+    }
+
+    private static final class IntSumTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+        private final int[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+
+        IntSumTask(int[] elements, int fromIndex, int toIndex) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialSum(elements, fromIndex, toIndex);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final IntSumTask rightHalf = new IntSumTask(elements, middle, toIndex);
+            rightHalf.fork();
+            return new IntSumTask(elements, fromIndex, middle).compute() + rightHalf.join();
+        }
+    }
+
+    private static final class IntExtremumTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final int[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final boolean isMax;
+
+        IntExtremumTask(int[] elements, int fromIndex, int toIndex, boolean isMax) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.isMax = isMax;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return isMax ? sequentialMax(elements, fromIndex, toIndex) : sequentialMin(elements, fromIndex, toIndex);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final IntExtremumTask rightHalf = new IntExtremumTask(elements, middle, toIndex, isMax);
+            rightHalf.fork();
+            final int leftExtremum = new IntExtremumTask(elements, fromIndex, middle, isMax).compute();
+            final int rightExtremum = rightHalf.join();
+            return isMax ? Math.max(leftExtremum, rightExtremum) : Math.min(leftExtremum, rightExtremum);
+        }
+    }
+
+    private static final class IntRangeEqualsTask extends RecursiveTask<Boolean> {
+
+        private static final long serialVersionUID = 1L;
+        private final int[] elements;
+        private final int fromIndex;
+        private final int[] otherElements;
+        private final int otherFromIndex;
+        private final int length;
+
+        IntRangeEqualsTask(int[] elements, int fromIndex, int[] otherElements, int otherFromIndex, int length) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.otherElements = otherElements;
+            this.otherFromIndex = otherFromIndex;
+            this.length = length;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (length < PARALLEL_THRESHOLD) {
+                return Arrays.equals(elements, fromIndex, fromIndex + length, otherElements, otherFromIndex, otherFromIndex + length);
+            }
+            final int leftLength = length >>> 1;
+            final IntRangeEqualsTask rightHalf = new IntRangeEqualsTask(elements, fromIndex + leftLength,
+                                                                        otherElements, otherFromIndex + leftLength, length - leftLength);
+            rightHalf.fork();
+            final boolean isLeftHalfEqual = new IntRangeEqualsTask(elements, fromIndex, otherElements, otherFromIndex, leftLength).compute();
+            return isLeftHalfEqual && rightHalf.join();
+        }
+    }
+
+    public static int indexOf(long[] elements, int fromIndex, int toIndex, long value) {
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new LongIndexOfTask(elements, fromIndex, toIndex, value));
+        }
+        return sequentialIndexOf(elements, fromIndex, toIndex, value);
+    }
+
+    static int sequentialIndexOf(long[] elements, int fromIndex, int toIndex, long value) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int lastIndexOf(long[] elements, int fromIndex, int toIndex, long value) {
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int count(long[] elements, int fromIndex, int toIndex, LongPredicate predicate) {
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new LongCountTask(elements, fromIndex, toIndex, predicate));
+        }
+        return sequentialCount(elements, fromIndex, toIndex, predicate);
+    }
+
+    static int sequentialCount(long[] elements, int fromIndex, int toIndex, LongPredicate predicate) {
+        int matches = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (predicate.test(elements[i])) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    public static long sum(long[] elements, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new LongSumTask(elements, fromIndex, toIndex));
+        }
+        return sequentialSum(elements, fromIndex, toIndex);
+    }
+
+    static long sequentialSum(long[] elements, int fromIndex, int toIndex) {
+        long sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    public static long min(long[] elements, int fromIndex, int toIndex) {
+        checkRangeIsNotEmptyElseThrow(fromIndex, toIndex);
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new LongExtremumTask(elements, fromIndex, toIndex, false));
+        }
+        return sequentialMin(elements, fromIndex, toIndex);
+    }
+
+    static long sequentialMin(long[] elements, int fromIndex, int toIndex) {
+        long min = Long.MAX_VALUE;
+        for (int i = fromIndex; i < toIndex; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return min;
+    }
+
+    public static long max(long[] elements, int fromIndex, int toIndex) {
+        checkRangeIsNotEmptyElseThrow(fromIndex, toIndex);
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new LongExtremumTask(elements, fromIndex, toIndex, true));
+        }
+        return sequentialMax(elements, fromIndex, toIndex);
+    }
+
+    static long sequentialMax(long[] elements, int fromIndex, int toIndex) {
+        long max = Long.MIN_VALUE;
+        for (int i = fromIndex; i < toIndex; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    public static boolean rangeEquals(long[] elements, int fromIndex, long[] otherElements, int otherFromIndex, int length) {
+        if (length >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new LongRangeEqualsTask(elements, fromIndex, otherElements, otherFromIndex, length));
+        }
+        return Arrays.equals(elements, fromIndex, fromIndex + length, otherElements, otherFromIndex, otherFromIndex + length);
+    }
+
+    private static final class LongIndexOfTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final long[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final long value;
+
+        LongIndexOfTask(long[] elements, int fromIndex, int toIndex, long value) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.value = value;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialIndexOf(elements, fromIndex, toIndex, value);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final LongIndexOfTask rightHalf = new LongIndexOfTask(elements, middle, toIndex, value);
+            rightHalf.fork();
+            final int leftIndex = new LongIndexOfTask(elements, fromIndex, middle, value).compute();
+            if (leftIndex >= 0) {
+                rightHalf.cancel(false);
+                return leftIndex;
+            }
+            return rightHalf.join();
+        }
+    }
+
+    private static final class LongCountTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final long[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final LongPredicate predicate;
+
+        LongCountTask(long[] elements, int fromIndex, int toIndex, LongPredicate predicate) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialCount(elements, fromIndex, toIndex, predicate);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final LongCountTask rightHalf = new LongCountTask(elements, middle, toIndex, predicate);
+            rightHalf.fork();
+            return new LongCountTask(elements, fromIndex, middle, predicate).compute() + rightHalf.join();
+        }
+    }
+
+    private static final class LongSumTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+        private final long[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+
+        LongSumTask(long[] elements, int fromIndex, int toIndex) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialSum(elements, fromIndex, toIndex);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final LongSumTask rightHalf = new LongSumTask(elements, middle, toIndex);
+            rightHalf.fork();
+            return new LongSumTask(elements, fromIndex, middle).compute() + rightHalf.join();
+        }
+    }
+
+    private static final class LongExtremumTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+        private final long[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final boolean isMax;
+
+        LongExtremumTask(long[] elements, int fromIndex, int toIndex, boolean isMax) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.isMax = isMax;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return isMax ? sequentialMax(elements, fromIndex, toIndex) : sequentialMin(elements, fromIndex, toIndex);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final LongExtremumTask rightHalf = new LongExtremumTask(elements, middle, toIndex, isMax);
+            rightHalf.fork();
+            final long leftExtremum = new LongExtremumTask(elements, fromIndex, middle, isMax).compute();
+            final long rightExtremum = rightHalf.join();
+            return isMax ? Math.max(leftExtremum, rightExtremum) : Math.min(leftExtremum, rightExtremum);
+        }
+    }
+
+    private static final class LongRangeEqualsTask extends RecursiveTask<Boolean> {
+
+        private static final long serialVersionUID = 1L;
+        private final long[] elements;
+        private final int fromIndex;
+        private final long[] otherElements;
+        private final int otherFromIndex;
+        private final int length;
+
+        LongRangeEqualsTask(long[] elements, int fromIndex, long[] otherElements, int otherFromIndex, int length) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.otherElements = otherElements;
+            this.otherFromIndex = otherFromIndex;
+            this.length = length;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (length < PARALLEL_THRESHOLD) {
+                return Arrays.equals(elements, fromIndex, fromIndex + length, otherElements, otherFromIndex, otherFromIndex + length);
+            }
+            final int leftLength = length >>> 1;
+            final LongRangeEqualsTask rightHalf = new LongRangeEqualsTask(elements, fromIndex + leftLength,
+                                                                        otherElements, otherFromIndex + leftLength, length - leftLength);
+            rightHalf.fork();
+            final boolean isLeftHalfEqual = new LongRangeEqualsTask(elements, fromIndex, otherElements, otherFromIndex, leftLength).compute();
+            return isLeftHalfEqual && rightHalf.join();
+        }
+    }
+
+    public static int indexOf(double[] elements, int fromIndex, int toIndex, double value) {
+        if (requiresBitwiseComparison(value)) {
+            return bitwiseIndexOf(elements, fromIndex, toIndex, value);
+        }
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new DoubleIndexOfTask(elements, fromIndex, toIndex, value));
+        }
+        return sequentialIndexOf(elements, fromIndex, toIndex, value);
+    }
+
+    static int sequentialIndexOf(double[] elements, int fromIndex, int toIndex, double value) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int lastIndexOf(double[] elements, int fromIndex, int toIndex, double value) {
+        if (requiresBitwiseComparison(value)) {
+            return bitwiseLastIndexOf(elements, fromIndex, toIndex, value);
+        }
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // element equality follows Double.equals: NaN matches NaN and 0.0 differs from -0.0, for any other
+    // value the plain '==' comparison of the scan loops gives the same answer
+    private static boolean requiresBitwiseComparison(double value) {
+        return Double.isNaN(value) || value == 0.0;
+    }
+
+    private static int bitwiseIndexOf(double[] elements, int fromIndex, int toIndex, double value) {
+        final long valueBits = Double.doubleToLongBits(value);
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (Double.doubleToLongBits(elements[i]) == valueBits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int bitwiseLastIndexOf(double[] elements, int fromIndex, int toIndex, double value) {
+        final long valueBits = Double.doubleToLongBits(value);
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            if (Double.doubleToLongBits(elements[i]) == valueBits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int count(double[] elements, int fromIndex, int toIndex, DoublePredicate predicate) {
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new DoubleCountTask(elements, fromIndex, toIndex, predicate));
+        }
+        return sequentialCount(elements, fromIndex, toIndex, predicate);
+    }
+
+    static int sequentialCount(double[] elements, int fromIndex, int toIndex, DoublePredicate predicate) {
+        int matches = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (predicate.test(elements[i])) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    public static double sum(double[] elements, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new DoubleSumTask(elements, fromIndex, toIndex));
+        }
+        return sequentialSum(elements, fromIndex, toIndex);
+    }
+
+    static double sequentialSum(double[] elements, int fromIndex, int toIndex) {
+        double sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    public static double min(double[] elements, int fromIndex, int toIndex) {
+        checkRangeIsNotEmptyElseThrow(fromIndex, toIndex);
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new DoubleExtremumTask(elements, fromIndex, toIndex, false));
+        }
+        return sequentialMin(elements, fromIndex, toIndex);
+    }
+
+    static double sequentialMin(double[] elements, int fromIndex, int toIndex) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = fromIndex; i < toIndex; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return min;
+    }
+
+    public static double max(double[] elements, int fromIndex, int toIndex) {
+        checkRangeIsNotEmptyElseThrow(fromIndex, toIndex);
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new DoubleExtremumTask(elements, fromIndex, toIndex, true));
+        }
+        return sequentialMax(elements, fromIndex, toIndex);
+    }
+
+    static double sequentialMax(double[] elements, int fromIndex, int toIndex) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = fromIndex; i < toIndex; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    public static boolean rangeEquals(double[] elements, int fromIndex, double[] otherElements, int otherFromIndex, int length) {
+        if (length >= PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new DoubleRangeEqualsTask(elements, fromIndex, otherElements, otherFromIndex, length));
+        }
+        return Arrays.equals(elements, fromIndex, fromIndex + length, otherElements, otherFromIndex, otherFromIndex + length);
+    }
+
+    private static final class DoubleIndexOfTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final double[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final double value;
+
+        DoubleIndexOfTask(double[] elements, int fromIndex, int toIndex, double value) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.value = value;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialIndexOf(elements, fromIndex, toIndex, value);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final DoubleIndexOfTask rightHalf = new DoubleIndexOfTask(elements, middle, toIndex, value);
+            rightHalf.fork();
+            final int leftIndex = new DoubleIndexOfTask(elements, fromIndex, middle, value).compute();
+            if (leftIndex >= 0) {
+                rightHalf.cancel(false);
+                return leftIndex;
+            }
+            return rightHalf.join();
+        }
+    }
+
+    private static final class DoubleCountTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final double[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final DoublePredicate predicate;
+
+        DoubleCountTask(double[] elements, int fromIndex, int toIndex, DoublePredicate predicate) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialCount(elements, fromIndex, toIndex, predicate);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final DoubleCountTask rightHalf = new DoubleCountTask(elements, middle, toIndex, predicate);
+            rightHalf.fork();
+            return new DoubleCountTask(elements, fromIndex, middle, predicate).compute() + rightHalf.join();
+        }
+    }
+
+    private static final class DoubleSumTask extends RecursiveTask<Double> {
+
+        private static final long serialVersionUID = 1L;
+        private final double[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+
+        DoubleSumTask(double[] elements, int fromIndex, int toIndex) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected Double compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return sequentialSum(elements, fromIndex, toIndex);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final DoubleSumTask rightHalf = new DoubleSumTask(elements, middle, toIndex);
+            rightHalf.fork();
+            return new DoubleSumTask(elements, fromIndex, middle).compute() + rightHalf.join();
+        }
+    }
+
+    private static final class DoubleExtremumTask extends RecursiveTask<Double> {
+
+        private static final long serialVersionUID = 1L;
+        private final double[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+        private final boolean isMax;
+
+        DoubleExtremumTask(double[] elements, int fromIndex, int toIndex, boolean isMax) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.isMax = isMax;
+        }
+
+        @Override
+        protected Double compute() {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                return isMax ? sequentialMax(elements, fromIndex, toIndex) : sequentialMin(elements, fromIndex, toIndex);
+            }
+            final int middle = (fromIndex + toIndex) >>> 1;
+            final DoubleExtremumTask rightHalf = new DoubleExtremumTask(elements, middle, toIndex, isMax);
+            rightHalf.fork();
+            final double leftExtremum = new DoubleExtremumTask(elements, fromIndex, middle, isMax).compute();
+            final double rightExtremum = rightHalf.join();
+            return isMax ? Math.max(leftExtremum, rightExtremum) : Math.min(leftExtremum, rightExtremum);
+        }
+    }
+
+    private static final class DoubleRangeEqualsTask extends RecursiveTask<Boolean> {
+
+        private static final long serialVersionUID = 1L;
+        private final double[] elements;
+        private final int fromIndex;
+        private final double[] otherElements;
+        private final int otherFromIndex;
+        private final int length;
+
+        DoubleRangeEqualsTask(double[] elements, int fromIndex, double[] otherElements, int otherFromIndex, int length) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.otherElements = otherElements;
+            this.otherFromIndex = otherFromIndex;
+            this.length = length;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (length < PARALLEL_THRESHOLD) {
+                return Arrays.equals(elements, fromIndex, fromIndex + length, otherElements, otherFromIndex, otherFromIndex + length);
+            }
+            final int leftLength = length >>> 1;
+            final DoubleRangeEqualsTask rightHalf = new DoubleRangeEqualsTask(elements, fromIndex + leftLength,
+                                                                        otherElements, otherFromIndex + leftLength, length - leftLength);
+            rightHalf.fork();
+            final boolean isLeftHalfEqual = new DoubleRangeEqualsTask(elements, fromIndex, otherElements, otherFromIndex, leftLength).compute();
+            return isLeftHalfEqual && rightHalf.join();
+        }
+    }
+
+    private static void checkRangeIsNotEmptyElseThrow(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) throw new NoSuchElementException("range [" + fromIndex + ".." + toIndex + ") is empty");
+    }
+}
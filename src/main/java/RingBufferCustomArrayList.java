@@ -0,0 +1,335 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// circular buffer with a power of two capacity: logical index 'i' lives at (head + i) & (capacity - 1),
+// so both ends are O(1) and positional edits only move the shorter side of the list
+public class RingBufferCustomArrayList<T> extends AbstractList<T> implements Deque<T>, RandomAccess {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private Object[] sourceArray;
+    private int head;
+    private int size;
+
+    public RingBufferCustomArrayList() {
+        this(DEFAULT_ALLOCATION_SIZE);
+    }
+
+    public RingBufferCustomArrayList(int size) {
+        if (size < 0) throw new IllegalArgumentException("Size to bee expected as positive integer, but was " + size);
+        this.sourceArray = new Object[powerOfTwoCapacityFor(size)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndexIsValidElseThrow(index);
+        return (T) sourceArray[physicalIndexOf(index)];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element, "null elements are not supported");
+        checkIndexIsValidElseThrow(index);
+        final int physicalIndex = physicalIndexOf(index);
+        final Object previousElement = sourceArray[physicalIndex];
+        sourceArray[physicalIndex] = element;
+        return (T) previousElement;
+    }
+
+    @Override
+    public boolean add(T elementToAdd) {
+        addLast(elementToAdd);
+        return true;
+    }
+
+    @Override
+    public void add(int indexOfInsertion, T element) {
+        Objects.requireNonNull(element, "null elements are not supported");
+        if (indexOfInsertion < 0 || size < indexOfInsertion)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + size + "]");
+        increaseSizeIfNecessary();
+        final int mask = sourceArray.length - 1;
+        if (indexOfInsertion < size / 2) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < indexOfInsertion; i++) {
+                sourceArray[(head + i) & mask] = sourceArray[(head + i + 1) & mask];
+            }
+        } else {
+            for (int i = size; i > indexOfInsertion; i--) {
+                sourceArray[(head + i) & mask] = sourceArray[(head + i - 1) & mask];
+            }
+        }
+        sourceArray[(head + indexOfInsertion) & mask] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkIndexIsValidElseThrow(index);
+        final int mask = sourceArray.length - 1;
+        final Object removedElement = sourceArray[(head + index) & mask];
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                sourceArray[(head + i) & mask] = sourceArray[(head + i - 1) & mask];
+            }
+            sourceArray[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                sourceArray[(head + i) & mask] = sourceArray[(head + i + 1) & mask];
+            }
+            sourceArray[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+        return (T) removedElement;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(sourceArray, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void addFirst(T element) {
+        Objects.requireNonNull(element, "null elements are not supported");
+        increaseSizeIfNecessary();
+        head = (head - 1) & (sourceArray.length - 1);
+        sourceArray[head] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(T element) {
+        Objects.requireNonNull(element, "null elements are not supported");
+        increaseSizeIfNecessary();
+        sourceArray[physicalIndexOf(size)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean offerFirst(T element) {
+        addFirst(element);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(T element) {
+        addLast(element);
+        return true;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (size == 0) throw new NoSuchElementException("list is empty");
+        return pollFirst();
+    }
+
+    @Override
+    public T removeLast() {
+        if (size == 0) throw new NoSuchElementException("list is empty");
+        return pollLast();
+    }
+
+    @Override
+    public T pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        final Object firstElement = sourceArray[head];
+        sourceArray[head] = null;
+        head = (head + 1) & (sourceArray.length - 1);
+        size--;
+        modCount++;
+        return (T) firstElement;
+    }
+
+    @Override
+    public T pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        final int lastIndex = physicalIndexOf(size - 1);
+        final Object lastElement = sourceArray[lastIndex];
+        sourceArray[lastIndex] = null;
+        size--;
+        modCount++;
+        return (T) lastElement;
+    }
+
+    @Override
+    public T getFirst() {
+        if (size == 0) throw new NoSuchElementException("list is empty");
+        return peekFirst();
+    }
+
+    @Override
+    public T getLast() {
+        if (size == 0) throw new NoSuchElementException("list is empty");
+        return peekLast();
+    }
+
+    @Override
+    public T peekFirst() {
+        return size == 0 ? null : (T) sourceArray[head];
+    }
+
+    @Override
+    public T peekLast() {
+        return size == 0 ? null : (T) sourceArray[physicalIndexOf(size - 1)];
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object object) {
+        final int index = indexOf(object);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object object) {
+        final int index = lastIndexOf(object);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        return removeFirstOccurrence(object);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        return offerLast(element);
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(T element) {
+        addFirst(element);
+    }
+
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        final ListIterator<T> listIterator = listIterator(size);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return listIterator.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return listIterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                listIterator.remove();
+            }
+        };
+    }
+
+    // no @Override, as Java 11 has no reversed(): on Java 21+ it settles the clash between the List and Deque
+    // defaults, and unlike them it returns a reversed copy rather than a view
+    public RingBufferCustomArrayList<T> reversed() {
+        final RingBufferCustomArrayList<T> reversedList = new RingBufferCustomArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            reversedList.sourceArray[i] = sourceArray[physicalIndexOf(size - 1 - i)];
+        }
+        reversedList.size = size;
+        return reversedList;
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Object[] elements = new Object[size];
+        copyElementsInOrder(elements);
+        return elements;
+    }
+
+    int capacity() {
+        return sourceArray.length;
+    }
+
+    private int physicalIndexOf(int index) {
+        return (head + index) & (sourceArray.length - 1);
+    }
+
+    private void increaseSizeIfNecessary() {
+        if (size == sourceArray.length) {
+            if (sourceArray.length == MAX_CAPACITY) {
+                throw new IllegalStateException("list can not hold more than " + MAX_CAPACITY + " elements");
+            }
+            final Object[] newArrayOfElements = new Object[sourceArray.length << 1];
+            copyElementsInOrder(newArrayOfElements);
+            sourceArray = newArrayOfElements;
+            head = 0;
+        }
+    }
+
+    private void copyElementsInOrder(Object[] target) {
+        final int amountBeforeWrap = Math.min(size, sourceArray.length - head);
+        System.arraycopy(sourceArray, head, target, 0, amountBeforeWrap);
+        System.arraycopy(sourceArray, 0, target, amountBeforeWrap, size - amountBeforeWrap);
+    }
+
+    private static int powerOfTwoCapacityFor(int size) {
+        if (size > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Size to be expected not greater than " + MAX_CAPACITY + ", but was " + size);
+        }
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    private void checkIndexIsValidElseThrow(int index) {
+        if (index < 0 || size <= index)
+            throw new IndexOutOfBoundsException("passed 'index' is out of range [0.." + (size - 1) + "]");
+    }
+}
@@ -0,0 +1,33 @@
+@FunctionalInterface
+public interface ShrinkPolicy {
+
+    /**
+     * @param currentCapacity length of the backing array after a removal
+     * @param size            amount of elements the list holds after that removal
+     * @return capacity of the new backing array, 'currentCapacity' or more keeps the array, values below 'size' are raised to it by the list
+     */
+    int calculateShrunkCapacity(int currentCapacity, int size);
+
+    // shrinks once utilization drops below 'shrinkThreshold' and leaves the list at 'targetUtilization', the gap
+    // between both is the hysteresis: after a shrink the list has to lose most of its elements again to shrink once more,
+    // and has to grow by the free headroom before the growth policy reallocates
+    static ShrinkPolicy utilizationBased(double shrinkThreshold, double targetUtilization, int minimumCapacity) {
+        if (!(shrinkThreshold > 0.0 && shrinkThreshold < targetUtilization && targetUtilization <= 1.0)) {
+            throw new IllegalArgumentException("Utilizations to be expected as 0.0 < shrinkThreshold < targetUtilization <= 1.0, but were "
+                                               + shrinkThreshold + " and " + targetUtilization);
+        }
+        if (minimumCapacity < 0) {
+            throw new IllegalArgumentException("Minimum capacity to be expected as positive integer, but was " + minimumCapacity);
+        }
+        return (currentCapacity, size) -> {
+            if (currentCapacity <= minimumCapacity || size >= currentCapacity * shrinkThreshold) {
+                return currentCapacity;
+            }
+            return (int) Math.max(minimumCapacity, Math.ceil(size / targetUtilization));
+        };
+    }
+
+    static ShrinkPolicy quarterToHalf() {
+        return utilizationBased(0.25, 0.5, 16);
+    }
+}
@@ -0,0 +1,113 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+// the producer and the consumer indexes are separated by padding so the two threads never write the same cache line
+abstract class SpscRingBufferQueueLeftPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SpscRingBufferQueueProducerIndex extends SpscRingBufferQueueLeftPadding {
+    volatile long tail;
+    long cachedHead;
+}
+
+abstract class SpscRingBufferQueueMiddlePadding extends SpscRingBufferQueueProducerIndex {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p30, p31, p32, p33, p34, p35, p36, p37;
+}
+
+abstract class SpscRingBufferQueueConsumerIndex extends SpscRingBufferQueueMiddlePadding {
+    volatile long head;
+    long cachedTail;
+}
+
+abstract class SpscRingBufferQueueRightPadding extends SpscRingBufferQueueConsumerIndex {
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+    long p50, p51, p52, p53, p54, p55, p56, p57;
+}
+
+// bounded lock-free handoff between exactly one producer thread and exactly one consumer thread
+public class SpscRingBufferQueue<T> extends SpscRingBufferQueueRightPadding {
+
+    private static final VarHandle TAIL;
+    private static final VarHandle HEAD;
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(SpscRingBufferQueueProducerIndex.class, "tail", long.class);
+            HEAD = lookup.findVarHandle(SpscRingBufferQueueConsumerIndex.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] sourceArray;
+    private final int mask;
+
+    public SpscRingBufferQueue(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity to be expected in range [1.." + (1 << 30) + "], but was " + capacity);
+        }
+        final int powerOfTwoCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.sourceArray = new Object[powerOfTwoCapacity];
+        this.mask = powerOfTwoCapacity - 1;
+    }
+
+    // producer thread only
+    public boolean offer(T element) {
+        Objects.requireNonNull(element, "null elements are not supported");
+        final long currentTail = (long) TAIL.getOpaque(this);
+        if (currentTail - cachedHead >= sourceArray.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (currentTail - cachedHead >= sourceArray.length) {
+                return false;
+            }
+        }
+        ELEMENTS.set(sourceArray, (int) currentTail & mask, element);
+        TAIL.setRelease(this, currentTail + 1);
+        return true;
+    }
+
+    // consumer thread only
+    public T poll() {
+        final long currentHead = (long) HEAD.getOpaque(this);
+        if (currentHead >= cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (currentHead >= cachedTail) {
+                return null;
+            }
+        }
+        final int index = (int) currentHead & mask;
+        final T element = (T) ELEMENTS.get(sourceArray, index);
+        ELEMENTS.set(sourceArray, index, null);
+        HEAD.setRelease(this, currentHead + 1);
+        return element;
+    }
+
+    // consumer thread only
+    public T peek() {
+        final long currentHead = (long) HEAD.getOpaque(this);
+        if (currentHead >= (long) TAIL.getAcquire(this)) {
+            return null;
+        }
+        return (T) ELEMENTS.get(sourceArray, (int) currentHead & mask);
+    }
+
+    public int size() {
+        final long currentHead = (long) HEAD.getAcquire(this);
+        final long currentTail = (long) TAIL.getAcquire(this);
+        return (int) Math.max(0, Math.min(currentTail - currentHead, sourceArray.length));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return sourceArray.length;
+    }
+}
@@ -0,0 +1,217 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentCustomArrayListTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int ELEMENTS_PER_PRODUCER = 50_000;
+
+    @Test
+    @DisplayName("Concurrent appends are neither lost nor duplicated and readers never observe a gap")
+    void concurrentAppendList() throws Exception {
+        final ConcurrentAppendCustomArrayList<Integer> appendList = new ConcurrentAppendCustomArrayList<>();
+        final AtomicBoolean producersFinished = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + 1);
+        try {
+            final Future<?> reader = executor.submit(() -> {
+                int previousSize = 0;
+                while (!producersFinished.get()) {
+                    final int size = appendList.size();
+                    Assertions.assertTrue(size >= previousSize, "published size went backwards");
+                    for (int i = previousSize; i < size; i++) {
+                        Assertions.assertNotNull(appendList.get(i), "published slot " + i + " is empty");
+                    }
+                    previousSize = size;
+                }
+            });
+            runProducers(executor, producerIndex -> {
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    appendList.add(producerIndex * ELEMENTS_PER_PRODUCER + i);
+                }
+            });
+            producersFinished.set(true);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(PRODUCERS * ELEMENTS_PER_PRODUCER, appendList.size());
+        final BitSet seenElements = new BitSet();
+        for (Integer element : appendList) {
+            Assertions.assertFalse(seenElements.get(element), "duplicated element " + element);
+            seenElements.set(element);
+        }
+        Assertions.assertEquals(PRODUCERS * ELEMENTS_PER_PRODUCER, seenElements.cardinality());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> appendList.remove(0));
+    }
+
+    @Test
+    @DisplayName("An appended element is visible to its producer as soon as add returns")
+    void concurrentAppendListReadsItsOwnWrites() throws Exception {
+        final ConcurrentAppendCustomArrayList<Integer> appendList = new ConcurrentAppendCustomArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            runProducers(executor, producerIndex -> {
+                for (int i = 0; i < 2_000; i++) {
+                    final int element = producerIndex * 2_000 + i;
+                    appendList.add(element);
+                    Assertions.assertTrue(appendList.lastIndexOf(element) >= 0, "own element " + element + " is not visible");
+                }
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(PRODUCERS * 2_000, appendList.size());
+    }
+
+    @Test
+    @DisplayName("A failed segment allocation does not leave a reserved slot behind")
+    void concurrentAppendListSurvivesFailedSegmentAllocation() throws Exception {
+        final AtomicBoolean failNextAllocation = new AtomicBoolean(true);
+        final ConcurrentAppendCustomArrayList<Integer> appendList = new ConcurrentAppendCustomArrayList<>() {
+            @Override
+            Object[] allocateSegment(int segmentSize) {
+                if (segmentSize > 16 && failNextAllocation.getAndSet(false)) {
+                    throw new OutOfMemoryError("injected");
+                }
+                return super.allocateSegment(segmentSize);
+            }
+        };
+        for (int i = 0; i < 16; i++) {
+            appendList.add(i);
+        }
+        Assertions.assertThrows(OutOfMemoryError.class, () -> appendList.add(16));
+        Assertions.assertEquals(16, appendList.size());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            runProducers(executor, producerIndex -> {
+                for (int i = 0; i < 1_000; i++) {
+                    appendList.add(producerIndex);
+                }
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(16 + PRODUCERS * 1_000, appendList.size());
+    }
+
+    @Test
+    @DisplayName("Copy-on-write iterators see a consistent snapshot while writers run")
+    void copyOnWriteList() throws Exception {
+        final CopyOnWriteCustomArrayList<Integer> copyOnWriteList = new CopyOnWriteCustomArrayList<>();
+        final AtomicBoolean writersFinished = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + 1);
+        try {
+            final Future<?> reader = executor.submit(() -> {
+                while (!writersFinished.get()) {
+                    final List<Integer> snapshot = copyOnWriteList.snapshot();
+                    final int snapshotSize = snapshot.size();
+                    int iteratedElements = 0;
+                    for (Integer element : snapshot) {
+                        Assertions.assertNotNull(element);
+                        iteratedElements++;
+                    }
+                    Assertions.assertEquals(snapshotSize, iteratedElements);
+                    Assertions.assertEquals(snapshotSize, snapshot.size());
+                }
+            });
+            runProducers(executor, producerIndex -> {
+                for (int i = 0; i < 2_000; i++) {
+                    copyOnWriteList.add(producerIndex);
+                    if (i % 10 == 0) {
+                        copyOnWriteList.remove(Integer.valueOf(producerIndex));
+                    }
+                }
+            });
+            writersFinished.set(true);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(PRODUCERS * 1_800, copyOnWriteList.size());
+
+        final Iterator<Integer> staleIterator = copyOnWriteList.iterator();
+        copyOnWriteList.clear();
+        Assertions.assertTrue(staleIterator.hasNext());
+        Assertions.assertThrows(UnsupportedOperationException.class, staleIterator::remove);
+    }
+
+    @Test
+    @DisplayName("Copy-on-write bulk operations replace the array in one swap")
+    void copyOnWriteBulkOperations() {
+        final CopyOnWriteCustomArrayList<Integer> copyOnWriteList = new CopyOnWriteCustomArrayList<>(List.of(5, 1, 4, 2, 3, 6));
+        final Iterator<Integer> staleIterator = copyOnWriteList.iterator();
+
+        Assertions.assertTrue(copyOnWriteList.removeAll(List.of(6, 7)));
+        Assertions.assertFalse(copyOnWriteList.removeAll(List.of(7)));
+        Assertions.assertFalse(copyOnWriteList.retainAll(List.of(1, 2, 3, 4, 5)));
+        Assertions.assertTrue(copyOnWriteList.removeIf(element -> element == 4));
+        Assertions.assertEquals(List.of(5, 1, 2, 3), copyOnWriteList);
+        Assertions.assertTrue(copyOnWriteList.retainAll(List.of(1, 2, 3)));
+        Assertions.assertEquals(List.of(1, 2, 3), copyOnWriteList);
+
+        copyOnWriteList.addAll(List.of(9, 8, 7));
+        copyOnWriteList.sort(null);
+        Assertions.assertEquals(List.of(1, 2, 3, 7, 8, 9), copyOnWriteList);
+        copyOnWriteList.replaceAll(element -> element * 10);
+        Assertions.assertEquals(List.of(10, 20, 30, 70, 80, 90), copyOnWriteList);
+        copyOnWriteList.subList(1, 4).clear();
+        Assertions.assertEquals(List.of(10, 80, 90), copyOnWriteList);
+
+        Assertions.assertTrue(copyOnWriteList.addAll(1, List.of(20, 30)));
+        Assertions.assertFalse(copyOnWriteList.addAll(0, List.of()));
+        Assertions.assertEquals(List.of(10, 20, 30, 80, 90), copyOnWriteList);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> copyOnWriteList.addAll(6, List.of(1)));
+
+        final List<Integer> subList = copyOnWriteList.subList(1, 3);
+        subList.add(25);
+        subList.set(0, 21);
+        Assertions.assertEquals(List.of(21, 30, 25), subList);
+        Assertions.assertEquals(List.of(10, 21, 30, 25, 80, 90), copyOnWriteList);
+        copyOnWriteList.add(100);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+        Assertions.assertThrows(ConcurrentModificationException.class, subList::size);
+
+        int staleElements = 0;
+        while (staleIterator.hasNext()) {
+            staleIterator.next();
+            staleElements++;
+        }
+        Assertions.assertEquals(6, staleElements);
+    }
+
+    private static void runProducers(ExecutorService executor, ProducerTask task) throws Exception {
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final List<Future<?>> producers = new ArrayList<>();
+        for (int producerIndex = 0; producerIndex < PRODUCERS; producerIndex++) {
+            final int currentProducerIndex = producerIndex;
+            producers.add(executor.submit(() -> {
+                startSignal.await();
+                task.produce(currentProducerIndex);
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (Future<?> producer : producers) {
+            producer.get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    private interface ProducerTask {
+        void produce(int producerIndex);
+    }
+}
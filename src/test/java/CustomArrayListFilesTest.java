@@ -0,0 +1,107 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class CustomArrayListFilesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Written list is read back and mapped with the same elements")
+    void writeReadAndMap() throws IOException {
+        final CustomArrayList<Long> customArrayList = new CustomArrayList<>(200_000);
+        for (long i = 0; i < 100_000; i++) {
+            customArrayList.add(i * i);
+        }
+        final Path file = directory.resolve("longs.bin");
+        CustomArrayListFiles.write(file, customArrayList, ElementCodec.LONG);
+        Assertions.assertEquals(CustomArrayListFiles.HEADER_BYTE_SIZE + 100_000L * Long.BYTES, Files.size(file));
+
+        final CustomArrayList<Long> reloaded = CustomArrayListFiles.read(file, ElementCodec.LONG);
+        Assertions.assertEquals(customArrayList, reloaded);
+        Assertions.assertEquals(100_000, reloaded.capacity());
+
+        try (MappedCustomArrayList<Long> mapped = CustomArrayListFiles.map(file, ElementCodec.LONG)) {
+            Assertions.assertEquals(100_000, mapped.size());
+            Assertions.assertEquals(99_999L * 99_999L, mapped.get(99_999));
+            Assertions.assertEquals(customArrayList, mapped);
+            Assertions.assertEquals(customArrayList, mapped.toCustomArrayList());
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> mapped.set(0, 1L));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(100_000));
+            mapped.close();
+            Assertions.assertTrue(mapped.isClosed());
+            Assertions.assertThrows(IllegalStateException.class, mapped::size);
+        }
+    }
+
+    @Test
+    @DisplayName("Mapping in small segments reads records across segment boundaries")
+    void mapAcrossSegments() throws IOException {
+        final CustomArrayList<Long> customArrayList = new CustomArrayList<>();
+        for (long i = 0; i < 1_003; i++) {
+            customArrayList.add(i * 7);
+        }
+        final Path file = directory.resolve("segmented.bin");
+        CustomArrayListFiles.write(file, customArrayList, ElementCodec.LONG);
+
+        try (MappedCustomArrayList<Long> mapped = CustomArrayListFiles.map(file, ElementCodec.LONG, 64)) {
+            Assertions.assertEquals(7L * 7, mapped.get(7));
+            Assertions.assertEquals(8L * 7, mapped.get(8));
+            Assertions.assertEquals(1_002L * 7, mapped.get(1_002));
+            Assertions.assertEquals(customArrayList, mapped);
+            Assertions.assertEquals(customArrayList, mapped.toCustomArrayList());
+        }
+        // room for 12 records is rounded down to segments of 8, so index arithmetic stays a shift and a mask
+        try (MappedCustomArrayList<Long> mapped = CustomArrayListFiles.map(file, ElementCodec.LONG, 12 * Long.BYTES)) {
+            Assertions.assertEquals(customArrayList, mapped);
+        }
+    }
+
+    @Test
+    void emptyList() throws IOException {
+        final Path file = directory.resolve("empty.bin");
+        CustomArrayListFiles.write(file, new CustomArrayList<Integer>(), ElementCodec.INTEGER);
+        Assertions.assertTrue(CustomArrayListFiles.read(file, ElementCodec.INTEGER).isEmpty());
+        try (MappedCustomArrayList<Integer> mapped = CustomArrayListFiles.map(file, ElementCodec.INTEGER)) {
+            Assertions.assertTrue(mapped.isEmpty());
+        }
+    }
+
+    @Test
+    void corruptedFilesAreRejected() throws IOException {
+        final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{1, 2, 3});
+        final Path file = directory.resolve("ints.bin");
+        CustomArrayListFiles.write(file, customArrayList, ElementCodec.INTEGER);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CustomArrayListFiles.read(file, ElementCodec.LONG));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 1);
+        }
+        Assertions.assertThrows(EOFException.class, () -> CustomArrayListFiles.read(file, ElementCodec.INTEGER));
+        Assertions.assertThrows(EOFException.class, () -> CustomArrayListFiles.map(file, ElementCodec.INTEGER));
+
+        final Path hugeSizeFile = directory.resolve("huge-size.bin");
+        CustomArrayListFiles.write(hugeSizeFile, customArrayList, ElementCodec.INTEGER);
+        try (FileChannel channel = FileChannel.open(hugeSizeFile, StandardOpenOption.WRITE)) {
+            final ByteBuffer corruptedSize = ByteBuffer.allocate(Integer.BYTES).order(CustomArrayListFiles.BYTE_ORDER);
+            corruptedSize.putInt(0, Integer.MAX_VALUE - 16);
+            channel.write(corruptedSize, 3 * Integer.BYTES);
+        }
+        Assertions.assertThrows(EOFException.class, () -> CustomArrayListFiles.read(hugeSizeFile, ElementCodec.INTEGER));
+
+        final Path foreignFile = directory.resolve("foreign.bin");
+        Files.write(foreignFile, new byte[64]);
+        Assertions.assertThrows(IOException.class, () -> CustomArrayListFiles.read(foreignFile, ElementCodec.INTEGER));
+    }
+}
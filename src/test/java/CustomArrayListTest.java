@@ -3,13 +3,27 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 public class CustomArrayListTest {
 
@@ -118,6 +132,20 @@ public class CustomArrayListTest {
             );
         }
 
+        @Test
+        void removeByIndexAndLookups() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"Kafka", null, "Redis", "Kafka"});
+            Assertions.assertEquals("Redis", customArrayList.remove(2));
+            Assertions.assertArrayEquals(new Object[]{"Kafka", null, "Kafka"}, customArrayList.toArray());
+            Assertions.assertEquals(0, customArrayList.indexOf("Kafka"));
+            Assertions.assertEquals(2, customArrayList.lastIndexOf("Kafka"));
+            Assertions.assertEquals(1, customArrayList.indexOf(null));
+            Assertions.assertEquals(-1, customArrayList.indexOf("Redis"));
+            Assertions.assertTrue(customArrayList.containsAll(Arrays.asList("Kafka", null)));
+            Assertions.assertFalse(customArrayList.containsAll(List.of("Kafka", "Redis")));
+            Assertions.assertTrue(customArrayList.containsAll(List.of()));
+        }
+
         @Test
         void copy() {
             final CustomArrayList<String> customArrayList = new CustomArrayList<>(List.of("Spring Cloud", "Amazon S3", "Amazon EKS").toArray());
@@ -134,4 +162,755 @@ public class CustomArrayListTest {
             Assertions.assertArrayEquals(List.of(1, 4, 5, 8, 10, 14, 19).toArray(), sortedList.toArray());
         }
     }
+
+    @Nested
+    @DisplayName("'Capacity' related test")
+    class CapacityTest {
+
+        @Test
+        void appendToDefaultConstructedList() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                customArrayList.add(i);
+            }
+            Assertions.assertEquals(100_000, customArrayList.size());
+            Assertions.assertEquals(0, customArrayList.get(0));
+            Assertions.assertEquals(99_999, customArrayList.get(99_999));
+        }
+
+        @Test
+        void clearWithRetainedCapacity() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(100);
+            for (int i = 0; i < 50; i++) {
+                customArrayList.add(i);
+            }
+            customArrayList.clear(true);
+            Assertions.assertTrue(customArrayList.isEmpty());
+            Assertions.assertEquals(100, customArrayList.capacity());
+            customArrayList.add(7);
+            Assertions.assertEquals(List.of(7), customArrayList);
+
+            customArrayList.clear(false);
+            Assertions.assertTrue(customArrayList.isEmpty());
+            Assertions.assertEquals(16, customArrayList.capacity());
+        }
+
+        @Test
+        void appendNullElements() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"Kafka", null});
+            customArrayList.add(null);
+            customArrayList.add("Redis");
+            Assertions.assertArrayEquals(new Object[]{"Kafka", null, null, "Redis"}, customArrayList.toArray());
+        }
+
+        @Test
+        void growthPolicies() {
+            final CustomArrayList<Integer> doublingList = new CustomArrayList<>(4, GrowthPolicy.doubling());
+            for (int i = 0; i < 5; i++) {
+                doublingList.add(i);
+            }
+            Assertions.assertEquals(8, doublingList.capacity());
+
+            final CustomArrayList<Integer> chunkedList = new CustomArrayList<>(4, GrowthPolicy.fixedChunk(10));
+            for (int i = 0; i < 5; i++) {
+                chunkedList.add(i);
+            }
+            Assertions.assertEquals(14, chunkedList.capacity());
+
+            final CustomArrayList<Integer> callerSuppliedList = new CustomArrayList<>(0, (currentCapacity, minimumCapacity) -> minimumCapacity * 3);
+            callerSuppliedList.add(1);
+            Assertions.assertEquals(3, callerSuppliedList.capacity());
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(1.0));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.fixedChunk(0));
+        }
+
+        @Test
+        void ensureCapacityAndTrimToSize() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"Java", "Kotlin"});
+            customArrayList.ensureCapacity(1_000);
+            Assertions.assertTrue(customArrayList.capacity() >= 1_000);
+            Assertions.assertEquals(2, customArrayList.size());
+
+            customArrayList.add("Scala");
+            customArrayList.trimToSize();
+            Assertions.assertEquals(3, customArrayList.capacity());
+            Assertions.assertArrayEquals(new Object[]{"Java", "Kotlin", "Scala"}, customArrayList.toArray());
+
+            customArrayList.add(1, "Groovy");
+            Assertions.assertArrayEquals(new Object[]{"Java", "Groovy", "Kotlin", "Scala"}, customArrayList.toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("'Iteration' related test")
+    class IterationTest {
+
+        @Test
+        void iteratorVisitsEveryElement() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"Docker", "Kubernetes", "Helm"});
+            final List<String> visitedElements = new ArrayList<>();
+            for (String element : customArrayList) {
+                visitedElements.add(element);
+            }
+            Assertions.assertEquals(List.of("Docker", "Kubernetes", "Helm"), visitedElements);
+        }
+
+        @Test
+        void iteratorsAreFailFast() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{1, 2, 3});
+            final Iterator<Integer> iterator = customArrayList.iterator();
+            iterator.next();
+            customArrayList.add(4);
+            Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+
+            final ListIterator<Integer> listIterator = customArrayList.listIterator();
+            listIterator.next();
+            customArrayList.remove(0);
+            Assertions.assertThrows(ConcurrentModificationException.class, listIterator::next);
+
+            Assertions.assertThrows(ConcurrentModificationException.class,
+                                    () -> customArrayList.forEach(element -> customArrayList.add(element)));
+        }
+
+        @Test
+        void iteratorRemove() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{1, 2, 3, 4});
+            final Iterator<Integer> iterator = customArrayList.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+            Assertions.assertArrayEquals(new Object[]{1, 3}, customArrayList.toArray());
+            Assertions.assertThrows(IllegalStateException.class, iterator::remove);
+        }
+
+        @Test
+        void listIteratorMovesInBothDirections() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"A", "B", "C"});
+            final ListIterator<String> listIterator = customArrayList.listIterator(1);
+            Assertions.assertEquals(0, listIterator.previousIndex());
+            Assertions.assertEquals("B", listIterator.next());
+            listIterator.add("X");
+            Assertions.assertEquals("X", listIterator.previous());
+            listIterator.remove();
+            Assertions.assertEquals("B", listIterator.previous());
+            listIterator.set("Y");
+            Assertions.assertEquals("A", listIterator.previous());
+            Assertions.assertFalse(listIterator.hasPrevious());
+            Assertions.assertArrayEquals(new Object[]{"A", "Y", "C"}, customArrayList.toArray());
+
+            final ListIterator<String> endIterator = customArrayList.listIterator(customArrayList.size());
+            endIterator.add("D");
+            Assertions.assertArrayEquals(new Object[]{"A", "Y", "C", "D"}, customArrayList.toArray());
+        }
+
+        @Test
+        void parallelStream() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>();
+            for (int i = 1; i <= 100_000; i++) {
+                customArrayList.add(i);
+            }
+            Assertions.assertEquals(5_000_050_000L, customArrayList.parallelStream().mapToLong(Integer::longValue).sum());
+
+            final Spliterator<Integer> spliterator = customArrayList.spliterator();
+            final Spliterator<Integer> prefix = spliterator.trySplit();
+            Assertions.assertEquals(50_000, prefix.estimateSize());
+            Assertions.assertEquals(50_000, spliterator.estimateSize());
+            Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        }
+
+        @Test
+        void bulkOperations() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{5, 2, 8, 1, 9, 4});
+            Assertions.assertTrue(customArrayList.removeIf(element -> element > 7));
+            Assertions.assertFalse(customArrayList.removeIf(element -> element > 7));
+            customArrayList.replaceAll(element -> element * 10);
+            customArrayList.sort(Comparator.reverseOrder());
+            Assertions.assertArrayEquals(new Object[]{50, 40, 20, 10}, customArrayList.toArray());
+
+            Assertions.assertThrows(IllegalStateException.class, () -> customArrayList.removeIf(element -> {
+                if (element == 20) throw new IllegalStateException();
+                return element == 50;
+            }));
+            Assertions.assertArrayEquals(new Object[]{40, 20, 10}, customArrayList.toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("'Sub list' related test")
+    class SubListTest {
+
+        @Test
+        void subListIsViewOfParent() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7});
+            final List<Integer> subList = customArrayList.subList(2, 6);
+            Assertions.assertEquals(List.of(2, 3, 4, 5), subList);
+
+            subList.set(0, 20);
+            subList.add(4, 55);
+            subList.remove(1);
+            Assertions.assertEquals(List.of(20, 4, 5, 55), subList);
+            Assertions.assertArrayEquals(new Object[]{0, 1, 20, 4, 5, 55, 6, 7}, customArrayList.toArray());
+
+            subList.clear();
+            Assertions.assertArrayEquals(new Object[]{0, 1, 6, 7}, customArrayList.toArray());
+            Assertions.assertTrue(subList.isEmpty());
+        }
+
+        @Test
+        void nestedSubLists() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"a", "b", "c", "d", "e", "f"});
+            final List<String> outerSubList = customArrayList.subList(1, 5);
+            final List<String> innerSubList = outerSubList.subList(1, 3);
+            Assertions.assertEquals(List.of("c", "d"), innerSubList);
+
+            innerSubList.addAll(List.of("x", "y"));
+            Assertions.assertEquals(List.of("b", "c", "d", "x", "y", "e"), outerSubList);
+            Assertions.assertEquals(8, customArrayList.size());
+            Assertions.assertEquals("y", customArrayList.get(5));
+        }
+
+        @Test
+        void subListDetectsStructuralChangesOfParent() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{1, 2, 3, 4});
+            final List<Integer> subList = customArrayList.subList(1, 3);
+            customArrayList.add(5);
+            Assertions.assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.subList(3, 2));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.subList(0, 6));
+            Assertions.assertEquals(List.of(), customArrayList.subList(5, 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("'Bulk removal' related test")
+    class BulkRemovalTest {
+
+        @Test
+        void removeAllRemovesEveryOccurrence() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"a", "b", "a", null, "c", "b"});
+            Assertions.assertTrue(customArrayList.removeAll(Arrays.asList("a", "b")));
+            Assertions.assertArrayEquals(new Object[]{null, "c"}, customArrayList.toArray());
+            Assertions.assertFalse(customArrayList.removeAll(Arrays.asList("x")));
+            Assertions.assertTrue(customArrayList.removeAll(Collections.singleton(null)));
+            Assertions.assertArrayEquals(new Object[]{"c"}, customArrayList.toArray());
+        }
+
+        @Test
+        void retainAllKeepsDuplicatesAndOrder() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{3, 1, 3, 2, 1, 4});
+            Assertions.assertTrue(customArrayList.retainAll(List.of(1, 3)));
+            Assertions.assertArrayEquals(new Object[]{3, 1, 3, 1}, customArrayList.toArray());
+            Assertions.assertFalse(customArrayList.retainAll(List.of(1, 3)));
+        }
+
+        @Test
+        void bulkRemovalWithLargeArgument() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>();
+            final List<Integer> evenNumbers = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                customArrayList.add(i);
+                if (i % 2 == 0) {
+                    evenNumbers.add(i);
+                }
+            }
+            final CustomArrayList<Integer> copy = new CustomArrayList<>(customArrayList.toArray());
+
+            customArrayList.removeAll(evenNumbers);
+            copy.retainAll(evenNumbers);
+            Assertions.assertEquals(5_000, customArrayList.size());
+            Assertions.assertEquals(5_000, copy.size());
+            Assertions.assertEquals(1, customArrayList.get(0));
+            Assertions.assertEquals(9_998, copy.get(copy.size() - 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("'Element index' related test")
+    class ElementIndexTest {
+
+        @Test
+        void lookupsThroughElementIndex() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"a", "b", "a", null, "c"});
+            customArrayList.enableElementIndex();
+            Assertions.assertEquals(0, customArrayList.indexOf("a"));
+            Assertions.assertEquals(2, customArrayList.lastIndexOf("a"));
+            Assertions.assertEquals(3, customArrayList.indexOf(null));
+            Assertions.assertFalse(customArrayList.contains("x"));
+            Assertions.assertEquals(1, customArrayList.elementIndexStats().getRebuilds());
+
+            customArrayList.add("x");
+            customArrayList.set(0, "c");
+            customArrayList.remove(customArrayList.size() - 1);
+            customArrayList.add("a");
+            Assertions.assertTrue(customArrayList.elementIndexStats().isUpToDate());
+            Assertions.assertEquals(2, customArrayList.indexOf("a"));
+            Assertions.assertEquals(5, customArrayList.lastIndexOf("a"));
+            Assertions.assertEquals(0, customArrayList.indexOf("c"));
+            Assertions.assertEquals(4, customArrayList.lastIndexOf("c"));
+            Assertions.assertEquals(-1, customArrayList.indexOf("x"));
+            Assertions.assertEquals(1, customArrayList.elementIndexStats().getRebuilds());
+            Assertions.assertEquals(4, customArrayList.elementIndexStats().getIncrementalUpdates());
+
+            customArrayList.remove(0);
+            Assertions.assertTrue(customArrayList.elementIndexStats().isUpToDate());
+            Assertions.assertEquals(3, customArrayList.indexOf("c"));
+            Assertions.assertEquals(1, customArrayList.elementIndexStats().getRebuilds());
+
+            customArrayList.removeIf("b"::equals);
+            Assertions.assertFalse(customArrayList.elementIndexStats().isUpToDate());
+            Assertions.assertEquals(2, customArrayList.indexOf("c"));
+            Assertions.assertEquals(2, customArrayList.elementIndexStats().getRebuilds());
+            Assertions.assertEquals(3, customArrayList.elementIndexStats().getDistinctElements());
+            Assertions.assertTrue(customArrayList.elementIndexStats().getEstimatedBytes() > 0);
+        }
+
+        @Test
+        void tailRemovalsAndInsertionsKeepElementIndexUpToDate() {
+            final CustomArrayList<Integer> indexedList = new CustomArrayList<>();
+            final List<Integer> plainList = new ArrayList<>();
+            indexedList.enableElementIndex();
+            for (int i = 0; i < 500; i++) {
+                indexedList.add(i % 37);
+                plainList.add(i % 37);
+            }
+            Assertions.assertEquals(0, indexedList.indexOf(0));
+            final Random random = new Random(5);
+            for (int i = 0; i < 300; i++) {
+                final int removalPosition = plainList.size() - 1 - random.nextInt(16);
+                Assertions.assertEquals(plainList.remove(removalPosition), indexedList.remove(removalPosition));
+                final Integer element = random.nextInt(40);
+                final int insertionPosition = plainList.size() - random.nextInt(17);
+                plainList.add(insertionPosition, element);
+                indexedList.add(insertionPosition, element);
+                Assertions.assertEquals(plainList.indexOf(element), indexedList.indexOf(element));
+                Assertions.assertEquals(plainList.lastIndexOf(element), indexedList.lastIndexOf(element));
+                Assertions.assertEquals(plainList.contains(element + 1), indexedList.contains(element + 1));
+            }
+            Assertions.assertTrue(indexedList.elementIndexStats().isUpToDate());
+            Assertions.assertEquals(1, indexedList.elementIndexStats().getRebuilds());
+        }
+
+        @Test
+        void frontRemovalsAndInsertionsMarkElementIndexStale() {
+            final CustomArrayList<Integer> indexedList = new CustomArrayList<>();
+            final List<Integer> plainList = new ArrayList<>();
+            indexedList.enableElementIndex();
+            for (int i = 0; i < 500; i++) {
+                indexedList.add(i % 37);
+                plainList.add(i % 37);
+            }
+            Assertions.assertEquals(0, indexedList.indexOf(0));
+
+            Assertions.assertEquals(plainList.remove(3), indexedList.remove(3));
+            Assertions.assertFalse(indexedList.elementIndexStats().isUpToDate());
+            Assertions.assertEquals(plainList.indexOf(3), indexedList.indexOf(3));
+            Assertions.assertEquals(2, indexedList.elementIndexStats().getRebuilds());
+
+            plainList.add(0, 36);
+            indexedList.add(0, 36);
+            Assertions.assertFalse(indexedList.elementIndexStats().isUpToDate());
+            Assertions.assertEquals(plainList.indexOf(36), indexedList.indexOf(36));
+            Assertions.assertEquals(plainList.lastIndexOf(0), indexedList.lastIndexOf(0));
+            Assertions.assertEquals(3, indexedList.elementIndexStats().getRebuilds());
+        }
+
+        @Test
+        void elementIndexAgreesWithLinearScan() {
+            final CustomArrayList<Integer> indexedList = new CustomArrayList<>();
+            final CustomArrayList<Integer> plainList = new CustomArrayList<>();
+            indexedList.enableElementIndex();
+            for (int i = 0; i < 1_000; i++) {
+                indexedList.add(i % 97);
+                plainList.add(i % 97);
+            }
+            indexedList.removeIf(element -> element % 3 == 0);
+            plainList.removeIf(element -> element % 3 == 0);
+            for (int i = 0; i < 100; i++) {
+                indexedList.set(i, i % 5);
+                plainList.set(i, i % 5);
+            }
+            for (int element = -1; element < 100; element++) {
+                Assertions.assertEquals(plainList.indexOf(element), indexedList.indexOf(element));
+                Assertions.assertEquals(plainList.lastIndexOf(element), indexedList.lastIndexOf(element));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("'Equality' related test")
+    class EqualityTest {
+
+        @Test
+        void equalsIgnoresUnusedCapacityAndWorksAgainstAnyList() {
+            final CustomArrayList<String> smallList = new CustomArrayList<>(4);
+            final CustomArrayList<String> largeList = new CustomArrayList<>(1024);
+            for (String element : Arrays.asList("a", null, "c")) {
+                smallList.add(element);
+                largeList.add(element);
+            }
+            largeList.add("d");
+            largeList.remove(3);
+
+            Assertions.assertEquals(smallList, largeList);
+            Assertions.assertEquals(smallList.hashCode(), largeList.hashCode());
+            Assertions.assertEquals(Arrays.asList("a", null, "c"), smallList);
+            Assertions.assertEquals(smallList, new ArrayList<>(Arrays.asList("a", null, "c")));
+            Assertions.assertEquals(Arrays.asList("a", null, "c").hashCode(), smallList.hashCode());
+            Assertions.assertNotEquals(smallList, Arrays.asList("a", null));
+            Assertions.assertNotEquals(smallList, Arrays.asList("a", null, "c", "d"));
+            Assertions.assertNotEquals(smallList, Collections.singleton("a"));
+            Assertions.assertEquals(new CustomArrayList<>(), List.of());
+        }
+
+        @Test
+        void cachedHashCodeFollowsModifications() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>();
+            customArrayList.enableHashCodeCaching();
+            final List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                customArrayList.add(i);
+                expected.add(i);
+            }
+            Assertions.assertEquals(expected.hashCode(), customArrayList.hashCode());
+
+            customArrayList.add(null);
+            expected.add(null);
+            customArrayList.set(3, -3);
+            expected.set(3, -3);
+            customArrayList.listIterator(50).next();
+            Assertions.assertEquals(expected.hashCode(), customArrayList.hashCode());
+
+            customArrayList.remove(0);
+            expected.remove(0);
+            customArrayList.set(98, 7);
+            expected.set(98, 7);
+            Assertions.assertEquals(expected.hashCode(), customArrayList.hashCode());
+
+            final HashMap<List<Integer>, String> cache = new HashMap<>();
+            cache.put(new ArrayList<>(expected), "value");
+            Assertions.assertEquals("value", cache.get(customArrayList));
+
+            customArrayList.disableHashCodeCaching();
+            customArrayList.set(0, 42);
+            expected.set(0, 42);
+            Assertions.assertEquals(expected.hashCode(), customArrayList.hashCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("'Bulk ingestion' related test")
+    class BulkIngestionTest {
+
+        @Test
+        void addAllFromArrayRangeIteratorAndCollection() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(2);
+            Assertions.assertTrue(customArrayList.addAll(new String[]{"a", "b", "c", "d"}, 1, 2));
+            Assertions.assertFalse(customArrayList.addAll(new String[]{"a"}, 1, 0));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.addAll(new String[]{"a"}, 1, 1));
+            Assertions.assertTrue(customArrayList.addAll(List.of("x", "y").iterator()));
+            Assertions.assertFalse(customArrayList.addAll(Collections.<String>emptyIterator()));
+            Assertions.assertTrue(customArrayList.addAll(customArrayList));
+            Assertions.assertEquals(List.of("b", "c", "x", "y", "b", "c", "x", "y"), customArrayList);
+            Assertions.assertTrue(customArrayList.addAll(4, new ArrayDeque<>(List.of("-"))));
+            Assertions.assertEquals(List.of("b", "c", "x", "y", "-", "b", "c", "x", "y"), customArrayList);
+        }
+
+        @Test
+        void addAllFromSpliteratorAndStreamAllocatesOnce() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(0);
+            Assertions.assertTrue(customArrayList.addAll(IntStream.range(0, 1_000).boxed()));
+            Assertions.assertEquals(1_000, customArrayList.capacity());
+            Assertions.assertEquals(999, customArrayList.get(999));
+
+            // sources without a usable size hint fall back to regular growth
+            final Spliterator<Integer> unsizedSpliterator = Spliterators.spliteratorUnknownSize(
+                    List.of(1, 2, 3).iterator(), Spliterator.ORDERED);
+            Assertions.assertTrue(customArrayList.addAll(unsizedSpliterator));
+            Assertions.assertTrue(customArrayList.addAll(IntStream.range(0, 100).filter(i -> i % 2 == 0).boxed()));
+            Assertions.assertEquals(1_053, customArrayList.size());
+            Assertions.assertEquals(98, customArrayList.get(1_052));
+        }
+
+        @Test
+        void parallelCollectorKeepsEncounterOrder() {
+            final CustomArrayList<Integer> collected = IntStream.range(0, 100_000).boxed()
+                    .parallel()
+                    .collect(CustomArrayList.toCustomArrayList());
+            Assertions.assertEquals(100_000, collected.size());
+            for (int i = 0; i < collected.size(); i++) {
+                Assertions.assertEquals(i, collected.get(i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("'Metrics' related test")
+    class MetricsTest {
+
+        @Test
+        void countsReallocationsShiftsAndScans() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(4, GrowthPolicy.doubling());
+            Assertions.assertThrows(IllegalStateException.class, customArrayList::metricsStats);
+            customArrayList.enableMetrics();
+            for (int i = 0; i < 10; i++) {
+                customArrayList.add(i);
+            }
+            customArrayList.add(0, -1);
+            customArrayList.remove(5);
+            Assertions.assertEquals(0, customArrayList.indexOf(-1));
+            Assertions.assertEquals(-1, customArrayList.indexOf(42));
+            Assertions.assertEquals(8, customArrayList.lastIndexOf(8));
+
+            final CustomArrayListStats stats = customArrayList.metricsStats();
+            Assertions.assertEquals(2, stats.getReallocations());
+            Assertions.assertEquals(16, stats.getPeakCapacity());
+            Assertions.assertEquals(10, stats.getSize());
+            Assertions.assertEquals(6, stats.getWastedCapacity());
+            Assertions.assertEquals(10 + 5, stats.getShiftedElements());
+            Assertions.assertEquals((4 + 8 + 10 + 5) * CustomArrayListMetrics.REFERENCE_BYTE_SIZE, stats.getCopiedBytes());
+            Assertions.assertEquals(3, stats.getScans());
+            Assertions.assertEquals(1 + 10 + 2, stats.getScannedElements());
+            Assertions.assertEquals(10, stats.getLongestScan());
+
+            customArrayList.trimToSize();
+            Assertions.assertEquals(3, customArrayList.metricsStats().getReallocations());
+            Assertions.assertEquals(16, customArrayList.metricsStats().getPeakCapacity());
+            customArrayList.disableMetrics();
+            Assertions.assertFalse(customArrayList.isMetricsEnabled());
+        }
+
+        @Test
+        void metricsAreExposedOverJmx() throws Exception {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>();
+            final ObjectName objectName = CustomArrayListMetricsMXBeans.register(customArrayList, "orders");
+            try {
+                final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+                Assertions.assertEquals(false, mBeanServer.getAttribute(objectName, "Enabled"));
+                customArrayList.enableMetrics();
+                customArrayList.contains("absent");
+                Assertions.assertEquals(true, mBeanServer.getAttribute(objectName, "Enabled"));
+                Assertions.assertEquals(1L, mBeanServer.getAttribute(objectName, "Scans"));
+                Assertions.assertEquals(16, mBeanServer.getAttribute(objectName, "WastedCapacity"));
+                Assertions.assertEquals(0.0, mBeanServer.getAttribute(objectName, "Utilization"));
+                Assertions.assertEquals(CustomArrayListMetrics.arrayByteSize(16), mBeanServer.getAttribute(objectName, "RetainedBytes"));
+
+                customArrayList.disableMetrics();
+                Assertions.assertEquals(0L, mBeanServer.getAttribute(objectName, "Scans"));
+                Assertions.assertEquals(16, mBeanServer.getAttribute(objectName, "Capacity"));
+                Assertions.assertEquals(0L, customArrayList.metricsStatsOrZeroes().getScannedElements());
+                Assertions.assertThrows(IllegalStateException.class, customArrayList::metricsStats);
+            } finally {
+                CustomArrayListMetricsMXBeans.unregister(objectName);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("'Sorted mode' related test")
+    class SortedModeTest {
+
+        @Test
+        void parallelSortOfLargeList() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>();
+            final Random random = new Random(11);
+            for (int i = 0; i < 100_000; i++) {
+                customArrayList.add(random.nextInt());
+            }
+            final List<Integer> expected = new ArrayList<>(customArrayList);
+            expected.sort(Comparator.reverseOrder());
+            customArrayList.sort(Comparator.reverseOrder());
+            Assertions.assertEquals(expected, customArrayList);
+        }
+
+        @Test
+        void sortedModeKeepsOrderOnAddAndAddAll() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{5, 3, 9, 1});
+            customArrayList.enableSortedMode(null);
+            Assertions.assertTrue(customArrayList.isSorted());
+            Assertions.assertEquals(List.of(1, 3, 5, 9), customArrayList);
+
+            customArrayList.add(4);
+            customArrayList.add(10);
+            customArrayList.add(0);
+            Assertions.assertEquals(List.of(0, 1, 3, 4, 5, 9, 10), customArrayList);
+
+            Assertions.assertTrue(customArrayList.addAll(List.of(8, 2, 11, -1, 5)));
+            Assertions.assertTrue(customArrayList.addAll(List.of(7, 6).iterator()));
+            Assertions.assertEquals(List.of(-1, 0, 1, 2, 3, 4, 5, 5, 6, 7, 8, 9, 10, 11), customArrayList);
+            Assertions.assertEquals(6, customArrayList.indexOf(5));
+            Assertions.assertEquals(7, customArrayList.lastIndexOf(5));
+            Assertions.assertTrue(customArrayList.contains(11));
+            Assertions.assertFalse(customArrayList.contains(12));
+            Assertions.assertEquals(-1, customArrayList.indexOf(null));
+        }
+
+        @Test
+        void binarySearchFindsEqualElementAmongComparatorTies() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>();
+            customArrayList.enableSortedMode(String.CASE_INSENSITIVE_ORDER);
+            customArrayList.addAll(List.of("b", "A", "a", "B", "c"));
+            Assertions.assertEquals(List.of("A", "a", "b", "B", "c"), customArrayList);
+            Assertions.assertEquals(1, customArrayList.indexOf("a"));
+            Assertions.assertEquals(3, customArrayList.lastIndexOf("B"));
+            Assertions.assertEquals(-1, customArrayList.indexOf("C"));
+        }
+
+        @Test
+        void naturalOrderIsRecognisedWhateverWayItIsPassed() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{3, 1, 2});
+            customArrayList.enableSortedMode(null);
+            customArrayList.add(0, 5);
+            Assertions.assertFalse(customArrayList.isSorted());
+            customArrayList.sort(Comparator.naturalOrder());
+            Assertions.assertTrue(customArrayList.isSorted());
+            customArrayList.set(0, 9);
+            customArrayList.sort(null);
+            Assertions.assertTrue(customArrayList.isSorted());
+
+            customArrayList.enableSortedMode(Comparator.naturalOrder());
+            customArrayList.set(0, 9);
+            customArrayList.sort(null);
+            Assertions.assertTrue(customArrayList.isSorted());
+            Assertions.assertEquals(List.of(3, 5, 9, 9), customArrayList);
+        }
+
+        @Test
+        void positionalWritesTrackSortedness() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{1, 3, 5});
+            customArrayList.enableSortedMode(Comparator.naturalOrder());
+            customArrayList.set(1, 2);
+            customArrayList.add(3, 7);
+            Assertions.assertTrue(customArrayList.isSorted());
+
+            customArrayList.set(0, 100);
+            Assertions.assertFalse(customArrayList.isSorted());
+            Assertions.assertEquals(0, customArrayList.indexOf(100));
+            customArrayList.add(4);
+            Assertions.assertEquals(List.of(100, 2, 5, 7, 4), customArrayList);
+
+            customArrayList.sort(Comparator.naturalOrder());
+            Assertions.assertTrue(customArrayList.isSorted());
+            customArrayList.sort(Comparator.reverseOrder());
+            Assertions.assertFalse(customArrayList.isSorted());
+            customArrayList.disableSortedMode();
+            Assertions.assertFalse(customArrayList.isSortedModeEnabled());
+            customArrayList.add(1);
+            Assertions.assertEquals(List.of(100, 7, 5, 4, 2, 1), customArrayList);
+        }
+    }
+
+    @Nested
+    @DisplayName("'Adaptive capacity' related test")
+    class AdaptiveCapacityTest {
+
+        @Test
+        void shrinksOnceUtilizationDropsBelowThreshold() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(1024);
+            for (int i = 0; i < 1000; i++) {
+                customArrayList.add(i);
+            }
+            customArrayList.enableAutoShrink(ShrinkPolicy.quarterToHalf());
+            Assertions.assertTrue(customArrayList.isAutoShrinkEnabled());
+            Assertions.assertEquals(1024, customArrayList.capacity());
+
+            while (customArrayList.size() > 256) {
+                customArrayList.remove(customArrayList.size() - 1);
+            }
+            Assertions.assertEquals(1024, customArrayList.capacity());
+            customArrayList.remove(customArrayList.size() - 1);
+            Assertions.assertEquals(510, customArrayList.capacity());
+            Assertions.assertEquals(255, customArrayList.size());
+            Assertions.assertEquals(254, customArrayList.get(254));
+        }
+
+        @Test
+        void oscillatingAtShrinkBoundaryDoesNotReallocate() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(1024);
+            for (int i = 0; i < 256; i++) {
+                customArrayList.add(i);
+            }
+            customArrayList.enableAutoShrink(ShrinkPolicy.quarterToHalf());
+            customArrayList.enableMetrics();
+            customArrayList.remove(255);
+            Assertions.assertEquals(1, customArrayList.metricsStats().getReallocations());
+
+            for (int i = 0; i < 1000; i++) {
+                customArrayList.add(i);
+                customArrayList.remove(customArrayList.size() - 1);
+            }
+            Assertions.assertEquals(1, customArrayList.metricsStats().getReallocations());
+            Assertions.assertEquals(510, customArrayList.capacity());
+        }
+
+        @Test
+        void bulkRemovalsAndClearRespectMinimumCapacity() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(1000);
+            for (int i = 0; i < 1000; i++) {
+                customArrayList.add(i);
+            }
+            customArrayList.enableAutoShrink(ShrinkPolicy.utilizationBased(0.5, 0.75, 64));
+            customArrayList.removeIf(element -> element % 4 != 0);
+            Assertions.assertEquals(334, customArrayList.capacity());
+
+            customArrayList.subList(10, customArrayList.size()).clear();
+            Assertions.assertEquals(64, customArrayList.capacity());
+            Assertions.assertEquals(List.of(0, 4, 8, 12, 16, 20, 24, 28, 32, 36), customArrayList);
+
+            customArrayList.clear();
+            Assertions.assertEquals(64, customArrayList.capacity());
+            customArrayList.disableAutoShrink();
+            customArrayList.clear();
+            Assertions.assertEquals(16, customArrayList.capacity());
+        }
+
+        @Test
+        void pooledListShrinksOnlyToSmallerBucket() {
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(1024, new ObjectArrayPool(4, 1 << 14));
+            for (int i = 0; i < 1000; i++) {
+                customArrayList.add(i);
+            }
+            customArrayList.enableAutoShrink(ShrinkPolicy.utilizationBased(0.3, 0.35, 16));
+            customArrayList.enableMetrics();
+            while (customArrayList.size() > 200) {
+                customArrayList.remove(customArrayList.size() - 1);
+            }
+            Assertions.assertEquals(0, customArrayList.metricsStats().getReallocations());
+            Assertions.assertEquals(1024, customArrayList.capacity());
+
+            while (customArrayList.size() > 100) {
+                customArrayList.remove(customArrayList.size() - 1);
+            }
+            Assertions.assertEquals(1, customArrayList.metricsStats().getReallocations());
+            Assertions.assertEquals(512, customArrayList.capacity());
+            customArrayList.clear();
+            Assertions.assertEquals(16, customArrayList.capacity());
+        }
+
+        @Test
+        void footprintReportsUtilizationAndRetainedBytes() {
+            final CustomArrayList<String> customArrayList = new CustomArrayList<>(10);
+            for (int i = 0; i < 5; i++) {
+                customArrayList.add("element" + i);
+            }
+            final CustomArrayListFootprint footprint = customArrayList.footprint();
+            Assertions.assertEquals(0.5, footprint.getUtilization());
+            Assertions.assertEquals(5L * CustomArrayListMetrics.REFERENCE_BYTE_SIZE, footprint.getWastedBytes());
+            Assertions.assertEquals(CustomArrayListMetrics.arrayByteSize(10), footprint.getRetainedBytes());
+            Assertions.assertEquals(0, footprint.getRetainedBytes() % 8);
+            Assertions.assertTrue(footprint.getRetainedBytes() >= 16 + 10L * CustomArrayListMetrics.REFERENCE_BYTE_SIZE);
+            Assertions.assertEquals(1.0, new CustomArrayList<>(0).footprint().getUtilization());
+        }
+
+        @Test
+        void invalidShrinkPolicy() {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ShrinkPolicy.utilizationBased(0.5, 0.5, 16));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ShrinkPolicy.utilizationBased(0.0, 0.5, 16));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ShrinkPolicy.utilizationBased(0.25, 1.5, 16));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ShrinkPolicy.utilizationBased(0.25, 0.5, -1));
+            Assertions.assertThrows(NullPointerException.class, () -> new CustomArrayList<>().enableAutoShrink(null));
+        }
+    }
 }
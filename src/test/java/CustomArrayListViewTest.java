@@ -0,0 +1,106 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class CustomArrayListViewTest {
+
+    private static CustomArrayList<Integer> numbers(int size) {
+        final CustomArrayList<Integer> customArrayList = new CustomArrayList<>();
+        customArrayList.addAll(IntStream.range(0, size).boxed());
+        return customArrayList;
+    }
+
+    @Test
+    @DisplayName("Chained views match the equivalent stream pipeline")
+    void chainedViewsMatchStreams() {
+        final CustomArrayList<Integer> customArrayList = numbers(100);
+        final CustomArrayListView<String> view = customArrayList
+                .filterView(number -> number % 3 == 0)
+                .mapView(number -> "#" + number)
+                .sliceView(2, 10);
+        final List<String> expected = customArrayList.stream()
+                .filter(number -> number % 3 == 0)
+                .map(number -> "#" + number)
+                .skip(2)
+                .limit(8)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(expected, view);
+        Assertions.assertEquals(expected, new ArrayList<>(view));
+        Assertions.assertArrayEquals(expected.toArray(), view.toArray());
+        Assertions.assertEquals(expected, view.materialize());
+        Assertions.assertEquals(8, view.size());
+        Assertions.assertEquals("#12", view.get(2));
+        Assertions.assertFalse(view instanceof RandomAccess);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.get(8));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.add("#1"));
+    }
+
+    @Test
+    @DisplayName("Positional queries on a filtered view take a single pass over the source")
+    void filteredViewQueriesAreSinglePass() {
+        final CustomArrayList<Integer> customArrayList = numbers(1_000);
+        final AtomicInteger filterCalls = new AtomicInteger();
+        final CustomArrayListView<Integer> view = customArrayList.filterView(number -> {
+            filterCalls.incrementAndGet();
+            return number % 2 == 0;
+        });
+        final List<Integer> expected = IntStream.range(0, 500).map(i -> i * 2).boxed().collect(Collectors.toList());
+
+        Assertions.assertEquals(250, view.indexOf(500));
+        Assertions.assertEquals(-1, view.indexOf(501));
+        Assertions.assertEquals(499, view.lastIndexOf(998));
+        Assertions.assertEquals(-1, view.lastIndexOf(-2));
+        Assertions.assertTrue(view.equals(expected));
+        Assertions.assertFalse(view.equals(expected.subList(0, 499)));
+        Assertions.assertFalse(view.equals(List.of(0, 2, 5)));
+        final ListIterator<Integer> listIterator = view.listIterator(500);
+        Assertions.assertEquals(998, listIterator.previous());
+        Assertions.assertEquals(996, listIterator.previous());
+        Assertions.assertTrue(filterCalls.get() <= 8 * 1_000, "filter called " + filterCalls.get() + " times");
+    }
+
+    @Test
+    void mapAndSliceStayRandomAccessAndLazy() {
+        final CustomArrayList<Integer> customArrayList = numbers(10);
+        final AtomicInteger mapperCalls = new AtomicInteger();
+        final CustomArrayListView<Integer> view = customArrayList
+                .sliceView(2, 8)
+                .mapView(number -> {
+                    mapperCalls.incrementAndGet();
+                    return number * 10;
+                })
+                .sliceView(1, 4);
+
+        Assertions.assertTrue(view instanceof RandomAccess);
+        Assertions.assertEquals(0, mapperCalls.get());
+        Assertions.assertEquals(40, view.get(1));
+        Assertions.assertEquals(1, mapperCalls.get());
+        Assertions.assertEquals(List.of(30, 40, 50), view);
+
+        customArrayList.set(4, -1);
+        Assertions.assertEquals(List.of(30, -10, 50), view);
+        mapperCalls.set(0);
+        final List<Integer> pushed = new ArrayList<>();
+        view.forEach(pushed::add);
+        Assertions.assertEquals(List.of(30, -10, 50), pushed);
+        Assertions.assertEquals(3, mapperCalls.get());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.sliceView(5, 11));
+    }
+
+    @Test
+    void traversalFailsFastOnStructuralModification() {
+        final CustomArrayList<Integer> customArrayList = numbers(10);
+        final CustomArrayListView<Integer> view = customArrayList.mapView(number -> number + 1);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> view.forEach(number -> customArrayList.add(number)));
+    }
+}
@@ -0,0 +1,76 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class FrozenCustomArrayListTest {
+
+    @Test
+    @DisplayName("Frozen list is an immutable copy of the source list")
+    void freeze() {
+        final CustomArrayList<Integer> customArrayList = new CustomArrayList<>();
+        for (int i = 0; i < 3 * FrozenCustomArrayList.LEAF_SIZE + 7; i++) {
+            customArrayList.add(i);
+        }
+        final FrozenCustomArrayList<Integer> frozen = customArrayList.freeze();
+        customArrayList.set(0, -1);
+        customArrayList.add(42);
+
+        Assertions.assertEquals(3 * FrozenCustomArrayList.LEAF_SIZE + 7, frozen.size());
+        Assertions.assertEquals(0, frozen.get(0));
+        Assertions.assertEquals(3 * FrozenCustomArrayList.LEAF_SIZE + 6, frozen.get(frozen.size() - 1));
+        Assertions.assertArrayEquals(frozen.toArray(), new ArrayList<>(frozen).toArray());
+        Assertions.assertEquals(frozen, frozen.toCustomArrayList());
+        Assertions.assertEquals(new ArrayList<>(frozen).hashCode(), frozen.hashCode());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> frozen.set(0, 1));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> frozen.add(1));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> frozen.remove(0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> frozen.get(frozen.size()));
+        Assertions.assertTrue(new CustomArrayList<String>().freeze().isEmpty());
+    }
+
+    @Test
+    void derivedListsMatchArrayListAndKeepTheirSource() {
+        FrozenCustomArrayList<Integer> frozen = FrozenCustomArrayList.empty();
+        final List<Integer> expected = new ArrayList<>();
+        final Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            frozen = frozen.withAdded(i);
+            expected.add(i);
+        }
+        final FrozenCustomArrayList<Integer> source = frozen;
+        for (int i = 0; i < 2_000; i++) {
+            final int index = random.nextInt(expected.size());
+            switch (random.nextInt(3)) {
+                case 0:
+                    frozen = frozen.withSet(index, -i);
+                    expected.set(index, -i);
+                    break;
+                case 1:
+                    frozen = frozen.withRemoved(index);
+                    expected.remove(index);
+                    break;
+                default:
+                    frozen = frozen.withAdded(i);
+                    expected.add(i);
+            }
+        }
+        Assertions.assertEquals(expected, frozen);
+        Assertions.assertEquals(expected.size(), frozen.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i), frozen.get(i));
+        }
+        Assertions.assertArrayEquals(expected.toArray(), frozen.toArray());
+        Assertions.assertEquals(5_000, source.size());
+        Assertions.assertEquals(4_999, source.get(4_999));
+
+        FrozenCustomArrayList<String> singleElementLeaves = FrozenCustomArrayList.<String>empty().withAdded("a").withAdded("b");
+        singleElementLeaves = singleElementLeaves.withRemoved(0).withRemoved(0);
+        Assertions.assertTrue(singleElementLeaves.isEmpty());
+        Assertions.assertEquals(Arrays.asList("c"), singleElementLeaves.withAdded("c"));
+    }
+}
@@ -0,0 +1,51 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+public class GapBufferCustomArrayListTest {
+
+    @Test
+    @DisplayName("Random positional edits match java.util.ArrayList")
+    void randomEdits() {
+        final Random random = new Random(42);
+        final GapBufferCustomArrayList<Integer> gapBufferList = new GapBufferCustomArrayList<>(2);
+        final List<Integer> expected = new ArrayList<>();
+        int cursor = 0;
+        for (int i = 0; i < 20_000; i++) {
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(7) - 3));
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                gapBufferList.add(cursor, i);
+                expected.add(cursor, i);
+            } else {
+                final int index = Math.min(cursor, expected.size() - 1);
+                Assertions.assertEquals(expected.remove(index), gapBufferList.remove(index));
+            }
+        }
+        Assertions.assertEquals(expected, gapBufferList);
+        Assertions.assertArrayEquals(expected.toArray(), gapBufferList.toArray());
+    }
+
+    @Test
+    void listIteratorEditsAroundCursor() {
+        final GapBufferCustomArrayList<String> gapBufferList = new GapBufferCustomArrayList<>();
+        gapBufferList.addAll(List.of("a", "b", "c", "d"));
+        final ListIterator<String> listIterator = gapBufferList.listIterator();
+        while (listIterator.hasNext()) {
+            final String element = listIterator.next();
+            if (element.equals("b")) {
+                listIterator.remove();
+            } else {
+                listIterator.add(element.toUpperCase());
+            }
+        }
+        Assertions.assertEquals(List.of("a", "A", "c", "C", "d", "D"), gapBufferList);
+        Assertions.assertEquals("C", gapBufferList.set(3, "X"));
+        gapBufferList.clear();
+        Assertions.assertTrue(gapBufferList.isEmpty());
+    }
+}
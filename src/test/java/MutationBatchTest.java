@@ -0,0 +1,125 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class MutationBatchTest {
+
+    @Test
+    @DisplayName("Random batches of edits by original index match the model of the edited list")
+    void randomBatchesMatchSequentialEdits() {
+        final Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            final int size = random.nextInt(40);
+            final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(size + random.nextInt(10));
+            for (int i = 0; i < size; i++) {
+                customArrayList.add(i);
+            }
+            final MutationBatch<Integer> batch = customArrayList.mutationBatch();
+            // per original index: inserted elements, then the fate of the original element
+            final TreeMap<Integer, List<Integer>> insertsByIndex = new TreeMap<>();
+            final TreeMap<Integer, Integer> replacementsByIndex = new TreeMap<>();
+            final TreeMap<Integer, Boolean> removalsByIndex = new TreeMap<>();
+            for (int edit = random.nextInt(30); edit > 0; edit--) {
+                final int kind = random.nextInt(3);
+                if (kind == 0 || size == 0) {
+                    final int index = random.nextInt(size + 1);
+                    final int element = -1_000 - edit;
+                    batch.insert(index, element);
+                    insertsByIndex.computeIfAbsent(index, ignored -> new ArrayList<>()).add(element);
+                    continue;
+                }
+                final int index = random.nextInt(size);
+                if (removalsByIndex.containsKey(index) || replacementsByIndex.containsKey(index)) {
+                    continue;
+                }
+                if (kind == 1) {
+                    batch.remove(index);
+                    removalsByIndex.put(index, true);
+                } else {
+                    batch.set(index, 1_000 + index);
+                    replacementsByIndex.put(index, 1_000 + index);
+                }
+            }
+
+            final List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i <= size; i++) {
+                expected.addAll(insertsByIndex.getOrDefault(i, List.of()));
+                if (i < size && !removalsByIndex.containsKey(i)) {
+                    expected.add(replacementsByIndex.getOrDefault(i, i));
+                }
+            }
+            batch.apply();
+            Assertions.assertEquals(expected, customArrayList);
+            Assertions.assertArrayEquals(expected.toArray(), customArrayList.toArray());
+        }
+    }
+
+    @Test
+    void growsOnceAndNullsTheVacatedTail() {
+        final CustomArrayList<String> customArrayList = new CustomArrayList<>(4);
+        customArrayList.addAll(List.of("a", "b", "c", "d"));
+        customArrayList.enableMetrics();
+        final MutationBatch<String> batch = customArrayList.mutationBatch();
+        for (int i = 0; i < 10; i++) {
+            batch.insert(2, "x" + i);
+        }
+        batch.remove(0).set(3, "D");
+        batch.apply();
+        Assertions.assertEquals(List.of("b", "x0", "x1", "x2", "x3", "x4", "x5", "x6", "x7", "x8", "x9", "c", "D"), customArrayList);
+        Assertions.assertEquals(1, customArrayList.metricsStats().getReallocations());
+
+        final MutationBatch<String> shrinkingBatch = customArrayList.mutationBatch();
+        for (int i = 1; i < 11; i++) {
+            shrinkingBatch.remove(i);
+        }
+        shrinkingBatch.apply();
+        Assertions.assertEquals(List.of("b", "c", "D"), customArrayList);
+        customArrayList.add("e");
+        Assertions.assertEquals(List.of("b", "c", "D", "e"), customArrayList);
+        Assertions.assertThrows(IllegalStateException.class, () -> shrinkingBatch.remove(0));
+    }
+
+    @Test
+    void conflictsAndStaleBatchesAreRejected() {
+        final CustomArrayList<Integer> customArrayList = new CustomArrayList<>(new Integer[]{1, 2, 3});
+        final MutationBatch<Integer> conflictingBatch = customArrayList.mutationBatch().remove(1).set(1, 5);
+        Assertions.assertThrows(IllegalStateException.class, conflictingBatch::apply);
+        Assertions.assertEquals(List.of(1, 2, 3), customArrayList);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.mutationBatch().remove(3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> customArrayList.mutationBatch().insert(4, 0));
+
+        final MutationBatch<Integer> staleBatch = customArrayList.mutationBatch().insert(0, 0);
+        customArrayList.add(4);
+        Assertions.assertThrows(ConcurrentModificationException.class, staleBatch::apply);
+        Assertions.assertEquals(List.of(1, 2, 3, 4), customArrayList);
+    }
+
+    @Test
+    void listIteratorRecordsIntoBatch() {
+        final CustomArrayList<String> customArrayList = new CustomArrayList<>(new String[]{"keep", "drop", "keep", "edit"});
+        final MutationBatch<String> batch = customArrayList.mutationBatch();
+        final ListIterator<String> iterator = customArrayList.listIterator(batch);
+        while (iterator.hasNext()) {
+            final String element = iterator.next();
+            if (element.equals("drop")) {
+                iterator.remove();
+            } else if (element.equals("edit")) {
+                iterator.set("edited");
+                iterator.add("appended");
+            }
+        }
+        Assertions.assertEquals(4, iterator.nextIndex());
+        Assertions.assertEquals(List.of("keep", "drop", "keep", "edit"), customArrayList);
+        batch.apply();
+        Assertions.assertEquals(List.of("keep", "keep", "edited", "appended"), customArrayList);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new CustomArrayList<String>().listIterator(batch));
+    }
+}
@@ -0,0 +1,76 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ObjectArrayPoolTest {
+
+    @Test
+    @DisplayName("Released arrays are handed out again from their capacity bucket")
+    void acquireAndRelease() {
+        final ObjectArrayPool arrayPool = new ObjectArrayPool(2, 1024);
+        final Object[] array = arrayPool.acquire(100);
+        Assertions.assertEquals(128, array.length);
+        Assertions.assertTrue(arrayPool.release(array));
+        Assertions.assertSame(array, arrayPool.acquire(65));
+        Assertions.assertEquals(16, arrayPool.acquire(0).length);
+        Assertions.assertEquals(2048, arrayPool.acquire(2048).length);
+
+        Assertions.assertFalse(arrayPool.release(new Object[100]));
+        Assertions.assertFalse(arrayPool.release(new Object[2048]));
+        Assertions.assertTrue(arrayPool.release(new Object[32]));
+        Assertions.assertTrue(arrayPool.release(new Object[32]));
+        Assertions.assertFalse(arrayPool.release(new Object[32]));
+
+        final ArrayPoolStats stats = arrayPool.stats();
+        Assertions.assertEquals(1, stats.getHits());
+        Assertions.assertEquals(3, stats.getMisses());
+        Assertions.assertEquals(3, stats.getReleases());
+        Assertions.assertEquals(3, stats.getDiscards());
+        Assertions.assertEquals(0.25, stats.getHitRate());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ObjectArrayPool(1, 1000));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ObjectArrayPool(0, 1024));
+    }
+
+    @Test
+    void arraysAreCachedPerThread() throws InterruptedException {
+        final ObjectArrayPool arrayPool = new ObjectArrayPool(4, 1024);
+        final Object[] array = arrayPool.acquire(16);
+        arrayPool.release(array);
+        final AtomicReference<Object[]> acquiredOnOtherThread = new AtomicReference<>();
+        final Thread thread = new Thread(() -> acquiredOnOtherThread.set(arrayPool.acquire(16)));
+        thread.start();
+        thread.join();
+        Assertions.assertNotSame(array, acquiredOnOtherThread.get());
+        Assertions.assertSame(array, arrayPool.acquire(16));
+    }
+
+    @Test
+    void pooledListsRecycleTheirBackingArrays() {
+        final ObjectArrayPool arrayPool = new ObjectArrayPool(4, 1024);
+        for (int round = 0; round < 10; round++) {
+            try (PooledCustomArrayList<String> pooledList = new PooledCustomArrayList<>(16, arrayPool)) {
+                for (int i = 0; i < 100; i++) {
+                    pooledList.add("element-" + i);
+                }
+                Assertions.assertEquals("element-99", pooledList.get(99));
+                pooledList.close();
+                Assertions.assertTrue(pooledList.isEmpty());
+                pooledList.add("after close");
+                Assertions.assertEquals(List.of("after close"), pooledList);
+            }
+        }
+        // the first round allocates one array per capacity step, every later round reuses them
+        final ArrayPoolStats stats = arrayPool.stats();
+        Assertions.assertTrue(stats.getHits() > stats.getMisses(), stats.toString());
+        for (int round = 0; round < 3; round++) {
+            final Object[] array = arrayPool.acquire(128);
+            for (Object element : array) {
+                Assertions.assertNull(element);
+            }
+        }
+    }
+}
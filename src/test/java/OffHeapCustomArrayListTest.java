@@ -0,0 +1,99 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OffHeapCustomArrayListTest {
+
+    @Test
+    @DisplayName("Index based mutations match java.util.ArrayList")
+    void indexBasedMutations() {
+        try (OffHeapCustomArrayList<Long> offHeapList = new OffHeapCustomArrayList<>(ElementCodec.LONG, 2)) {
+            final List<Long> expected = new ArrayList<>();
+            for (long i = 0; i < 1_000; i++) {
+                offHeapList.add(i);
+                expected.add(i);
+            }
+            offHeapList.add(0, -1L);
+            expected.add(0, -1L);
+            offHeapList.add(500, -500L);
+            expected.add(500, -500L);
+            offHeapList.add(offHeapList.size(), -1_000L);
+            expected.add(expected.size(), -1_000L);
+            Assertions.assertEquals(expected.remove(250), offHeapList.remove(250));
+            Assertions.assertEquals(expected.remove(0), offHeapList.remove(0));
+            Assertions.assertEquals(expected.set(10, 42L), offHeapList.set(10, 42L));
+
+            Assertions.assertEquals(expected, offHeapList);
+        }
+    }
+
+    @Test
+    @DisplayName("Shifts across segment boundaries match java.util.ArrayList")
+    void segmentedStorage() {
+        try (OffHeapCustomArrayList<Long> offHeapList = new OffHeapCustomArrayList<>(ElementCodec.LONG, 2, GrowthPolicy.doubling(), 64)) {
+            final List<Long> expected = new ArrayList<>();
+            for (long i = 0; i < 100; i++) {
+                offHeapList.add(i);
+                expected.add(i);
+            }
+            Assertions.assertEquals(104, offHeapList.capacity());
+            for (int i = 0; i < 20; i++) {
+                offHeapList.add(i * 5, -i - 1L);
+                expected.add(i * 5, -i - 1L);
+                Assertions.assertEquals(expected.remove(expected.size() - 1 - i * 3), offHeapList.remove(offHeapList.size() - 1 - i * 3));
+            }
+            offHeapList.add(0, 1_000L);
+            expected.add(0, 1_000L);
+            Assertions.assertEquals(expected.remove(7), offHeapList.remove(7));
+            Assertions.assertEquals(expected.remove(8), offHeapList.remove(8));
+            Assertions.assertEquals(expected, offHeapList);
+        }
+        try (OffHeapCustomArrayList<Integer> presized = new OffHeapCustomArrayList<>(ElementCodec.INTEGER, 20, GrowthPolicy.doubling(), 32)) {
+            Assertions.assertEquals(24, presized.capacity());
+            Assertions.assertThrows(OutOfMemoryError.class, () -> presized.ensureCapacity(Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void fixedLayoutRecordCodec() {
+        final ElementCodec<int[]> pointCodec = new ElementCodec<>() {
+            @Override
+            public int byteSize() {
+                return 2 * Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer target, int offset, int[] point) {
+                target.putInt(offset, point[0]).putInt(offset + Integer.BYTES, point[1]);
+            }
+
+            @Override
+            public int[] read(ByteBuffer source, int offset) {
+                return new int[]{source.getInt(offset), source.getInt(offset + Integer.BYTES)};
+            }
+        };
+        try (OffHeapCustomArrayList<int[]> points = new OffHeapCustomArrayList<>(pointCodec)) {
+            points.add(new int[]{1, 2});
+            points.add(new int[]{3, 4});
+            points.add(1, new int[]{5, 6});
+            Assertions.assertArrayEquals(new int[]{5, 6}, points.get(1));
+            Assertions.assertArrayEquals(new int[]{3, 4}, points.get(2));
+        }
+    }
+
+    @Test
+    void closedListRejectsAccess() {
+        final OffHeapCustomArrayList<Integer> offHeapList = new OffHeapCustomArrayList<>(ElementCodec.INTEGER);
+        offHeapList.add(1);
+        Assertions.assertThrows(OutOfMemoryError.class, () -> new OffHeapCustomArrayList<>(ElementCodec.INTEGER, Integer.MAX_VALUE));
+        offHeapList.close();
+        offHeapList.close();
+        Assertions.assertTrue(offHeapList.isClosed());
+        Assertions.assertThrows(IllegalStateException.class, () -> offHeapList.get(0));
+        Assertions.assertThrows(IllegalStateException.class, () -> offHeapList.add(2));
+    }
+}
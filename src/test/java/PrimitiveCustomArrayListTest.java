@@ -0,0 +1,181 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class PrimitiveCustomArrayListTest {
+
+    @Test
+    @DisplayName("Unboxed mutations of int backed list")
+    void intList() {
+        final IntCustomArrayList intList = new IntCustomArrayList(2);
+        for (int i = 0; i < 1_000; i++) {
+            intList.addInt(i);
+        }
+        Assertions.assertEquals(1_000, intList.size());
+        Assertions.assertEquals(999, intList.getInt(999));
+
+        intList.addInt(0, -1);
+        Assertions.assertEquals(-1, intList.getInt(0));
+        Assertions.assertEquals(0, intList.getInt(1));
+        Assertions.assertEquals(-1, intList.removeIntAt(0));
+        Assertions.assertTrue(intList.removeInt(500));
+        Assertions.assertFalse(intList.contains(500));
+        Assertions.assertEquals(501, intList.indexOf(502));
+
+        intList.removeIf(element -> element % 2 == 0);
+        Assertions.assertEquals(500, intList.size());
+        Assertions.assertEquals(1, intList.getInt(0));
+
+        intList.addAll(1, new int[]{100, 200});
+        Assertions.assertArrayEquals(new int[]{1, 100, 200, 3}, Arrays.copyOf(intList.toIntArray(), 4));
+    }
+
+    @Test
+    void longListIterator() {
+        final LongCustomArrayList longList = new LongCustomArrayList(new long[]{10L, 20L, 30L});
+        final PrimitiveIterator.OfLong iterator = longList.iterator();
+        long sum = 0;
+        while (iterator.hasNext()) {
+            final long element = iterator.nextLong();
+            sum += element;
+            if (element == 20L) {
+                iterator.remove();
+            }
+        }
+        Assertions.assertEquals(60L, sum);
+        Assertions.assertArrayEquals(new long[]{10L, 30L}, longList.toLongArray());
+
+        final PrimitiveIterator.OfLong staleIterator = longList.iterator();
+        longList.addLong(40L);
+        Assertions.assertThrows(ConcurrentModificationException.class, staleIterator::nextLong);
+    }
+
+    @Test
+    void doubleListEqualityAndBulkOperations() {
+        final DoubleCustomArrayList doubleList = new DoubleCustomArrayList(new double[]{1.5, Double.NaN, -0.0});
+        Assertions.assertEquals(1, doubleList.indexOf(Double.NaN));
+        Assertions.assertEquals(-1, doubleList.indexOf(0.0));
+
+        doubleList.retainAll(new DoubleCustomArrayList(new double[]{1.5, -0.0}));
+        Assertions.assertEquals(new DoubleCustomArrayList(new double[]{1.5, -0.0}), doubleList);
+        Assertions.assertEquals(1.5, doubleList.stream().sum());
+    }
+
+    @Test
+    @DisplayName("Boxed view writes through to the primitive list")
+    void boxedView() {
+        final IntCustomArrayList intList = new IntCustomArrayList(new int[]{3, 1, 2});
+        final List<Integer> boxedView = intList.asList();
+        Assertions.assertEquals(List.of(3, 1, 2), boxedView);
+        Assertions.assertEquals(List.of(3, 1, 2).hashCode(), intList.hashCode());
+
+        boxedView.sort(null);
+        boxedView.add(4);
+        boxedView.remove(Integer.valueOf(1));
+        Assertions.assertArrayEquals(new int[]{2, 3, 4}, intList.toIntArray());
+        Assertions.assertTrue(boxedView.contains(3));
+        Assertions.assertFalse(boxedView.contains(3L));
+    }
+
+    @Test
+    @DisplayName("Boxed view iterators and subLists fail fast on structural changes of the primitive list")
+    void boxedViewFailsFast() {
+        final LongCustomArrayList longList = new LongCustomArrayList(new long[]{1, 2, 3, 4});
+        final List<Long> boxedView = longList.asList();
+        final Iterator<Long> iterator = boxedView.iterator();
+        iterator.next();
+        longList.addLong(5);
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        final List<Long> subList = boxedView.subList(1, 3);
+        subList.add(1, 9L);
+        Assertions.assertEquals(List.of(2L, 9L, 3L), subList);
+        longList.setLong(0, 0);
+        Assertions.assertEquals(List.of(2L, 9L, 3L), subList);
+        longList.removeLongAt(0);
+        Assertions.assertThrows(ConcurrentModificationException.class, subList::size);
+
+        final DoubleCustomArrayList doubleList = new DoubleCustomArrayList(new double[]{1.0, 2.0});
+        final Iterator<Double> doubleIterator = doubleList.asList().iterator();
+        doubleList.clear();
+        Assertions.assertThrows(ConcurrentModificationException.class, doubleIterator::next);
+    }
+
+    @Test
+    @DisplayName("Scan kernels agree with plain loops below and above the parallel threshold")
+    void scanKernels() {
+        final int size = PrimitiveScanKernels.PARALLEL_THRESHOLD * 4 + 3;
+        final int[] elements = new int[size];
+        final Random random = new Random(11);
+        for (int i = 0; i < size; i++) {
+            elements[i] = random.nextInt(1_000_000);
+        }
+        elements[size - 2] = -5;
+        final IntCustomArrayList intList = new IntCustomArrayList(elements);
+
+        long expectedSum = 0;
+        int expectedMax = Integer.MIN_VALUE;
+        int expectedEvenCount = 0;
+        for (int element : elements) {
+            expectedSum += element;
+            expectedMax = Math.max(expectedMax, element);
+            expectedEvenCount += element % 2 == 0 ? 1 : 0;
+        }
+        Assertions.assertEquals(expectedSum, intList.sum());
+        Assertions.assertEquals(expectedMax, intList.max());
+        Assertions.assertEquals(-5, intList.min());
+        Assertions.assertEquals(expectedEvenCount, intList.count(element -> element % 2 == 0));
+        Assertions.assertEquals(size - 2, intList.indexOf(-5));
+        Assertions.assertEquals(-1, intList.indexOf(-6));
+        Assertions.assertEquals(size - 2, intList.lastIndexOf(-5));
+        Assertions.assertEquals(5, PrimitiveScanKernels.indexOf(new int[]{0, 1, 2, 3, 4, 5, 6}, 0, 7, 5));
+
+        final IntCustomArrayList copy = new IntCustomArrayList(intList.toIntArray());
+        Assertions.assertEquals(intList, copy);
+        copy.setInt(size - 1, -1);
+        Assertions.assertNotEquals(intList, copy);
+        Assertions.assertTrue(intList.rangeEquals(1, copy, 1, size - 2));
+        Assertions.assertThrows(NoSuchElementException.class, () -> new LongCustomArrayList().min());
+    }
+
+    @Test
+    @DisplayName("removeIf keeps the list consistent when the filter throws and fails fast on modification")
+    void removeIfWithThrowingAndModifyingFilter() {
+        final IntCustomArrayList intList = new IntCustomArrayList(new int[]{1, 2, 3, 4, 5, 6});
+        final Iterator<Integer> boxedIterator = intList.asList().iterator();
+        Assertions.assertThrows(IllegalStateException.class, () -> intList.removeIf(element -> {
+            if (element == 4) throw new IllegalStateException();
+            return element % 2 == 0;
+        }));
+        Assertions.assertArrayEquals(new int[]{1, 3, 4, 5, 6}, intList.toIntArray());
+        Assertions.assertThrows(ConcurrentModificationException.class, boxedIterator::next);
+
+        final LongCustomArrayList longList = new LongCustomArrayList(new long[]{1, 2, 3});
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> longList.removeIf(element -> longList.addLong(element)));
+
+        final DoubleCustomArrayList doubleList = new DoubleCustomArrayList(new double[]{1.0, 2.0, 3.0});
+        Assertions.assertThrows(ArithmeticException.class, () -> doubleList.removeIf(element -> {
+            if (element == 3.0) throw new ArithmeticException();
+            return element == 1.0;
+        }));
+        Assertions.assertArrayEquals(new double[]{2.0, 3.0}, doubleList.toDoubleArray());
+    }
+
+    @Test
+    void doubleKernelsFollowDoubleEquality() {
+        final DoubleCustomArrayList doubleList = new DoubleCustomArrayList(new double[]{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, Double.NaN, -0.0, 8.0});
+        Assertions.assertEquals(8, doubleList.indexOf(Double.NaN));
+        Assertions.assertEquals(9, doubleList.indexOf(-0.0));
+        Assertions.assertEquals(0, doubleList.lastIndexOf(0.0));
+        Assertions.assertEquals(10, doubleList.indexOf(8.0));
+        Assertions.assertTrue(Double.isNaN(doubleList.max()));
+    }
+}
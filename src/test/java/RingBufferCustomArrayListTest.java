@@ -0,0 +1,121 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class RingBufferCustomArrayListTest {
+
+    @Test
+    @DisplayName("Deque operations at both ends with index access through the head offset")
+    void dequeOperations() {
+        final RingBufferCustomArrayList<Integer> ringBuffer = new RingBufferCustomArrayList<>(4);
+        ringBuffer.addLast(2);
+        ringBuffer.addLast(3);
+        ringBuffer.addFirst(1);
+        ringBuffer.addFirst(0);
+        ringBuffer.addLast(4);
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), ringBuffer);
+        Assertions.assertEquals(8, ringBuffer.capacity());
+        Assertions.assertEquals(2, ringBuffer.get(2));
+
+        Assertions.assertEquals(0, ringBuffer.pollFirst());
+        Assertions.assertEquals(4, ringBuffer.pollLast());
+        Assertions.assertEquals(1, ringBuffer.peek());
+        Assertions.assertEquals(3, ringBuffer.getLast());
+
+        final Iterator<Integer> descendingIterator = ringBuffer.descendingIterator();
+        Assertions.assertEquals(3, descendingIterator.next());
+        Assertions.assertEquals(2, descendingIterator.next());
+
+        ringBuffer.clear();
+        Assertions.assertNull(ringBuffer.poll());
+        Assertions.assertThrows(NoSuchElementException.class, ringBuffer::pop);
+        Assertions.assertThrows(NullPointerException.class, () -> ringBuffer.add(null));
+    }
+
+    @Test
+    void randomPositionalEditsAcrossWrapAround() {
+        final Random random = new Random(7);
+        final RingBufferCustomArrayList<Integer> ringBuffer = new RingBufferCustomArrayList<>(2);
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            final int operation = random.nextInt(5);
+            if (expected.isEmpty() || operation == 0) {
+                final int index = random.nextInt(expected.size() + 1);
+                ringBuffer.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                final int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(index), ringBuffer.remove(index));
+            } else if (operation == 2) {
+                ringBuffer.addFirst(i);
+                expected.add(0, i);
+            } else if (operation == 3) {
+                ringBuffer.addLast(i);
+                expected.add(i);
+            } else {
+                Assertions.assertEquals(expected.remove(0), ringBuffer.removeFirst());
+            }
+        }
+        Assertions.assertEquals(expected, ringBuffer);
+        Assertions.assertArrayEquals(expected.toArray(), ringBuffer.toArray());
+    }
+
+    @Test
+    void reversedCopyAcrossWrapAround() {
+        final RingBufferCustomArrayList<Integer> ringBuffer = new RingBufferCustomArrayList<>(4);
+        ringBuffer.addLast(2);
+        ringBuffer.addLast(3);
+        ringBuffer.addFirst(1);
+        ringBuffer.addFirst(0);
+
+        final RingBufferCustomArrayList<Integer> reversed = ringBuffer.reversed();
+        Assertions.assertEquals(List.of(3, 2, 1, 0), reversed);
+        Assertions.assertEquals(3, reversed.peekFirst());
+
+        reversed.addFirst(4);
+        Assertions.assertEquals(List.of(0, 1, 2, 3), ringBuffer);
+        Assertions.assertEquals(List.of(), new RingBufferCustomArrayList<Integer>().reversed());
+    }
+
+    @Test
+    @DisplayName("Single producer and single consumer hand elements over in order")
+    void singleProducerSingleConsumerHandoff() throws Exception {
+        final SpscRingBufferQueue<Integer> queue = new SpscRingBufferQueue<>(100);
+        Assertions.assertEquals(128, queue.capacity());
+        final int amountOfElements = 1_000_000;
+        final AtomicReference<Throwable> consumerFailure = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> {
+            try {
+                int expectedElement = 0;
+                while (expectedElement < amountOfElements) {
+                    final Integer element = queue.poll();
+                    if (element == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    Assertions.assertEquals(expectedElement++, element);
+                }
+            } catch (Throwable throwable) {
+                consumerFailure.set(throwable);
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < amountOfElements; i++) {
+            while (!queue.offer(i)) {
+                Thread.onSpinWait();
+            }
+        }
+        consumer.join(TimeUnit.SECONDS.toMillis(30));
+        Assertions.assertFalse(consumer.isAlive());
+        Assertions.assertNull(consumerFailure.get());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+}